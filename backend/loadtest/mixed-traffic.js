@@ -0,0 +1,162 @@
+// 혼합 트래픽 부하 테스트 (k6)
+//
+// 1. 데이터 생성:  ./gradlew bootRun --args='--spring.profiles.active=local,dataset --dataset.requests=1000000'
+// 2. 실행:        k6 run loadtest/mixed-traffic.js
+//                 k6 run -e BASE_URL=http://localhost:8080 -e RATE=200 -e DURATION=5m loadtest/mixed-traffic.js
+//
+// 시나리오 (RATE = 초당 전체 반복 수 기준 비율)
+// - browse  60%: 카탈로그 목록 / 검색 / 상세
+// - request 25%: 내 신청 목록 + 신청 생성
+// - approve 10%: 관리자 대기 목록 조회 + 승인
+// - login    5%: 로그인 (BCrypt 비용 포함)
+//
+// 결과: 엔드포인트별 처리량 / p50 / p95 / p99 를 콘솔과 loadtest/results/summary-<시각>.json 에 출력
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 100);
+const DURATION = __ENV.DURATION || '2m';
+const USERS = Number(__ENV.USERS || 50); // 미리 로그인해 둘 loadtest 계정 수
+const PASSWORD = __ENV.PASSWORD || 'loadtest1234';
+
+const SEARCH_KEYWORDS = ['맥북', 'ThinkPad', '모니터', '키보드', '의자', 'A4', '충전', 'mouse'];
+const ENDPOINTS = ['login', 'catalog', 'search', 'detail', 'my_requests', 'create_request', 'pending_page', 'approve'];
+
+const failures = new Counter('business_failures');
+
+function scenario(exec, share) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec,
+    rate: Math.max(1, Math.round(RATE * share)),
+    timeUnit: '1s',
+    duration: DURATION,
+    preAllocatedVUs: Math.max(5, Math.round(RATE * share)),
+    maxVUs: Math.max(20, RATE * 2),
+  };
+}
+
+export const options = {
+  scenarios: {
+    browse: scenario('browse', 0.6),
+    request: scenario('request', 0.25),
+    approve: scenario('approve', 0.1),
+    login: scenario('login', 0.05),
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max', 'count'],
+  // 엔드포인트별 지표가 요약에 나오도록 태그마다 threshold 등록
+  thresholds: Object.fromEntries(
+    ENDPOINTS.map((name) => [`http_req_duration{name:${name}}`, ['p(99)<5000']])
+  ),
+};
+
+function json(body) {
+  return { headers: { 'Content-Type': 'application/json' }, body: JSON.stringify(body) };
+}
+
+function auth(token) {
+  return { headers: { Authorization: `Bearer ${token}`, 'Content-Type': 'application/json' } };
+}
+
+function loginAs(email) {
+  const req = json({ email, password: PASSWORD });
+  const res = http.post(`${BASE_URL}/api/auth/login`, req.body, { headers: req.headers, tags: { name: 'login' } });
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return res.status === 200 ? res.json('accessToken') : null;
+}
+
+function pick(list) {
+  return list[Math.floor(Math.random() * list.length)];
+}
+
+export function setup() {
+  const admin = loginAs('loadtest-admin@test.com');
+  const users = [];
+  for (let i = 1; i <= USERS; i++) {
+    const token = loginAs(`loadtest${i}@test.com`);
+    if (token) users.push(token);
+  }
+  const catalog = http.get(`${BASE_URL}/api/equipment`, { headers: { 'Accept-Encoding': 'gzip' } });
+  const equipmentIds = catalog.json()
+    .filter((e) => e.available && e.stock > 0)
+    .map((e) => e.id);
+
+  if (!admin || users.length === 0 || equipmentIds.length === 0) {
+    throw new Error('loadtest 계정/비품이 없습니다. dataset 프로필로 데이터를 먼저 생성하세요.');
+  }
+  return { admin, users, equipmentIds };
+}
+
+export function browse(data) {
+  http.get(`${BASE_URL}/api/equipment`, { headers: { 'Accept-Encoding': 'gzip' }, tags: { name: 'catalog' } });
+  http.get(`${BASE_URL}/api/equipment/search?keyword=${encodeURIComponent(pick(SEARCH_KEYWORDS))}`,
+    { tags: { name: 'search' } });
+  http.get(`${BASE_URL}/api/equipment/${pick(data.equipmentIds)}`, { tags: { name: 'detail' } });
+}
+
+export function request(data) {
+  const params = auth(pick(data.users));
+  http.get(`${BASE_URL}/api/requests/my?page=0&size=20`, { ...params, tags: { name: 'my_requests' } });
+
+  const count = 1 + Math.floor(Math.random() * 3);
+  const items = [];
+  for (let i = 0; i < count; i++) {
+    items.push({ equipmentId: pick(data.equipmentIds), quantity: 1 });
+  }
+  const res = http.post(`${BASE_URL}/api/requests`, JSON.stringify({ items }),
+    { ...params, tags: { name: 'create_request' } });
+  if (!check(res, { 'create 200': (r) => r.status === 200 })) failures.add(1);
+}
+
+export function approve(data) {
+  const params = auth(data.admin);
+  const page = http.get(`${BASE_URL}/api/requests/admin/page?status=PENDING&size=20`,
+    { ...params, tags: { name: 'pending_page' } });
+  if (page.status !== 200) return;
+
+  const content = page.json('content') || [];
+  if (content.length === 0) return;
+  const target = pick(content);
+  const res = http.post(`${BASE_URL}/api/requests/admin/${target.id}/approve`, null,
+    { ...params, tags: { name: 'approve' } });
+  // 동시에 다른 VU 가 먼저 처리한 경우(400)는 정상 경합으로 보고 실패로 세지 않음
+  if (!check(res, { 'approve 200/400': (r) => r.status === 200 || r.status === 400 })) failures.add(1);
+}
+
+export function login() {
+  loginAs(`loadtest${1 + Math.floor(Math.random() * USERS)}@test.com`);
+}
+
+export function handleSummary(data) {
+  const rows = ENDPOINTS.map((name) => {
+    const metric = data.metrics[`http_req_duration{name:${name}}`];
+    if (!metric || !metric.values.count) return null;
+    const v = metric.values;
+    return {
+      name,
+      count: v.count,
+      throughput: +(v.count / (data.state.testRunDurationMs / 1000)).toFixed(2),
+      p50: +v['p(50)'].toFixed(2),
+      p95: +v['p(95)'].toFixed(2),
+      p99: +v['p(99)'].toFixed(2),
+      max: +v.max.toFixed(2),
+    };
+  }).filter(Boolean);
+
+  const lines = ['endpoint          count   req/s     p50     p95     p99     max (ms)'];
+  for (const r of rows) {
+    lines.push([
+      r.name.padEnd(16), String(r.count).padStart(7), String(r.throughput).padStart(7),
+      String(r.p50).padStart(7), String(r.p95).padStart(7), String(r.p99).padStart(7), String(r.max).padStart(7),
+    ].join(' '));
+  }
+
+  const stamp = new Date().toISOString().replace(/[:.]/g, '-');
+  return {
+    stdout: lines.join('\n') + '\n',
+    [`loadtest/results/summary-${stamp}.json`]: JSON.stringify({ endpoints: rows, raw: data.metrics }, null, 2),
+  };
+}
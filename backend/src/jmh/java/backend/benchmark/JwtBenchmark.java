@@ -0,0 +1,53 @@
+package backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import backend.util.JwtPrincipal;
+import backend.util.JwtTokenCache;
+import backend.util.JwtUtil;
+
+/**
+ * JWT 발급 / 서명 검증 / 검증 캐시 조회 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private JwtTokenCache tokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 1_209_600_000L);
+        tokenCache = new JwtTokenCache(jwtUtil, 10_000);
+        token = jwtUtil.generateAccessToken(1L, "user@test.com", "USER");
+        tokenCache.verify(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(1L, "user@test.com", "USER");
+    }
+
+    @Benchmark
+    public JwtPrincipal parse() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyCached() {
+        return tokenCache.verify(token);
+    }
+}
@@ -0,0 +1,64 @@
+package backend.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import backend.filter.JwtAuthenticationFilter;
+import backend.util.JwtTokenCache;
+import backend.util.JwtUtil;
+import jakarta.servlet.ServletException;
+
+/**
+ * JwtAuthenticationFilter 한 번 통과 비용 (헤더 추출 → 토큰 검증 → SecurityContext 설정)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(JwtBenchmark.SECRET, 3_600_000L, 1_209_600_000L);
+        filter = new JwtAuthenticationFilter(new JwtTokenCache(jwtUtil, 10_000));
+        authorization = "Bearer " + jwtUtil.generateAccessToken(1L, "user@test.com", "USER");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws ServletException, IOException {
+        return doFilter(authorization);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse anonymousRequest() throws ServletException, IOException {
+        return doFilter(null);
+    }
+
+    private MockHttpServletResponse doFilter(String header) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/requests/my");
+        if (header != null) {
+            request.addHeader("Authorization", header);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
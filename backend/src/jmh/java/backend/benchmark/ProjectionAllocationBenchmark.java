@@ -0,0 +1,204 @@
+package backend.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.controller.EquipmentController.EquipmentResponse;
+import backend.controller.EquipmentRequestController.RequestItemResponse;
+import backend.controller.EquipmentRequestController.RequestResponse;
+import backend.domain.BaseEntity;
+import backend.domain.Equipment;
+import backend.domain.EquipmentRequest;
+import backend.domain.RequestItem;
+import backend.domain.User;
+import backend.repository.EquipmentRepository;
+import backend.repository.EquipmentRequestRepository;
+import backend.repository.UserRepository;
+import backend.service.ImageDerivativeService;
+import backend.service.ImageDiskCache;
+import backend.service.S3Service;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 목록 응답 1회당 할당량: 엔티티 조회 + 변환 vs 프로젝션 조회 + 변환 (인메모리 H2)
+ * - 호출당 바이트는 gc 프로파일러의 gc.alloc.rate.norm 으로 확인
+ *   ./gradlew jmh -PjmhIncludes=ProjectionAllocationBenchmark -PjmhProfilers=gc
+ * - entity* 는 이전 경로(엔티티 조회 → 영속성 컨텍스트/스냅샷 → DTO), row* 는 현재 경로
+ * - 2차 캐시는 끄고 측정 (조회 방식 차이만 보기 위해)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionAllocationBenchmark {
+
+    private static final int EQUIPMENT_COUNT = 200;
+    private static final int REQUEST_COUNT = 200;
+    private static final String DESCRIPTION = "벤치마크용 비품 설명 ".repeat(40); // TEXT 컬럼 (약 500자)
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = BaseEntity.class)
+    @EnableJpaRepositories(basePackageClasses = EquipmentRepository.class)
+    static class BenchmarkConfig {
+    }
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        @Param({"20", "200"})
+        public int pageSize;
+
+        ConfigurableApplicationContext context;
+        TransactionTemplate readOnly;
+        EquipmentRepository equipmentRepository;
+        EquipmentRequestRepository requestRepository;
+        ImageDerivativeService images;
+        Long userId;
+
+        @Setup(Level.Trial)
+        public void start() throws IOException {
+            context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.profiles.active=bench",
+                            "--spring.datasource.url=jdbc:h2:mem:projection;DB_CLOSE_DELAY=-1",
+                            "--spring.datasource.driver-class-name=org.h2.Driver",
+                            "--spring.jpa.hibernate.ddl-auto=create-drop",
+                            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                            "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                            "--spring.jpa.properties.hibernate.generate_statistics=false",
+                            "--spring.main.banner-mode=off",
+                            "--logging.level.root=WARN");
+            readOnly = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+            readOnly.setReadOnly(true);
+            equipmentRepository = context.getBean(EquipmentRepository.class);
+            requestRepository = context.getBean(EquipmentRequestRepository.class);
+
+            S3Client s3Client = S3Client.builder()
+                    .region(Region.AP_NORTHEAST_2)
+                    .credentialsProvider(AnonymousCredentialsProvider.create())
+                    .build();
+            S3Service s3Service = new S3Service(s3Client, "bench-bucket", "ap-northeast-2", "", 8, 3000, 8 * 1024 * 1024);
+            ImageDiskCache diskCache = new ImageDiskCache(
+                    Files.createTempDirectory("bench-image-cache").toString(), 1024 * 1024);
+            images = new ImageDerivativeService(s3Service, diskCache, "", 1, 1, 25_000_000, 10_000);
+
+            User user = context.getBean(UserRepository.class).save(User.builder()
+                    .email("bench@test.com").password("pw").name("bench").role(User.UserRole.USER)
+                    .build());
+            userId = user.getId();
+
+            List<Equipment> equipment = new ArrayList<>(EQUIPMENT_COUNT);
+            for (int i = 0; i < EQUIPMENT_COUNT; i++) {
+                equipment.add(Equipment.builder()
+                        .name("비품 " + i).description(DESCRIPTION).category("category" + (i % 5))
+                        .imageUrl("https://images.unsplash.com/photo-" + i).stock(10).available(true)
+                        .build());
+            }
+            equipment = equipmentRepository.saveAll(equipment);
+
+            List<EquipmentRequest> requests = new ArrayList<>(REQUEST_COUNT);
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                EquipmentRequest request = EquipmentRequest.builder()
+                        .user(user).status(EquipmentRequest.RequestStatus.PENDING)
+                        .build();
+                for (int j = 0; j < 3; j++) {
+                    request.addItem(RequestItem.builder()
+                            .equipment(equipment.get((i + j) % EQUIPMENT_COUNT)).quantity(1)
+                            .build());
+                }
+                requests.add(request);
+            }
+            requestRepository.saveAll(requests);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+    }
+
+    // 비품 목록 (카탈로그 스냅샷을 다시 만들 때)
+    @Benchmark
+    public List<EquipmentResponse> equipmentEntities(Database db) {
+        return db.readOnly.execute(status -> db.equipmentRepository.findAll().stream()
+                .map(e -> EquipmentResponse.from(e, db.images))
+                .toList());
+    }
+
+    @Benchmark
+    public List<EquipmentResponse> equipmentRows(Database db) {
+        return db.readOnly.execute(status -> db.equipmentRepository.findAllRows().stream()
+                .map(e -> EquipmentResponse.from(e, db.images))
+                .toList());
+    }
+
+    // 내 신청 목록 1페이지 (이전: 신청 + 사용자 페이지 조회 → items/equipment fetch join)
+    @Benchmark
+    public List<RequestResponse> myRequestEntities(Database db) {
+        return db.readOnly.execute(status -> {
+            List<EquipmentRequest> page = db.requestRepository.findByUserIdWithUser(db.userId,
+                    PageRequest.of(0, db.pageSize));
+            db.requestRepository.findAllByIdInWithItems(page.stream().map(EquipmentRequest::getId).toList());
+            return page.stream().map(ProjectionAllocationBenchmark::toResponse).toList();
+        });
+    }
+
+    @Benchmark
+    public List<RequestResponse> myRequestRows(Database db) {
+        return db.readOnly.execute(status -> {
+            List<Long> ids = db.requestRepository.findIdsByUserId(db.userId, PageRequest.of(0, db.pageSize));
+            return RequestResponse.fromRows(db.requestRepository.findListRowsByIdIn(ids));
+        });
+    }
+
+    // 이전 경로의 엔티티 → 응답 변환 (컨트롤러는 이제 프로젝션 행만 변환)
+    private static RequestResponse toResponse(EquipmentRequest request) {
+        List<RequestItemResponse> items = request.getItems().stream()
+                .map(item -> new RequestItemResponse(
+                        item.getId(),
+                        item.getEquipment().getId(),
+                        item.getEquipment().getName(),
+                        item.getQuantity()))
+                .toList();
+        return new RequestResponse(
+                request.getId(),
+                request.getUser().getId(),
+                request.getUser().getName(),
+                request.getStatus().name(),
+                items,
+                request.getCreatedAt().toString(),
+                request.getProcessedAt() != null ? request.getProcessedAt().toString() : null,
+                request.getRejectReason());
+    }
+}
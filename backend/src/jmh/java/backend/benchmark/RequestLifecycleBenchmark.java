@@ -0,0 +1,158 @@
+package backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import backend.domain.BaseEntity;
+import backend.domain.Equipment;
+import backend.domain.User;
+import backend.repository.EquipmentRepository;
+import backend.repository.RequestItemJdbcRepository;
+import backend.repository.UserRepository;
+import backend.service.ApprovalQueue;
+import backend.service.EquipmentRequestService;
+import backend.service.EquipmentRequestService.RequestItemDto;
+import backend.service.RequestSummaryService;
+import backend.service.StockReservationEngine;
+
+/**
+ * 신청 생성 / 승인 경로 (인메모리 H2, 웹 계층 없이 서비스만)
+ * - createRequest: 장바구니 크기별
+ * - approve 반복 호출 vs approveAll 일괄 처리: 건수별
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestLifecycleBenchmark {
+
+    private static final int EQUIPMENT_COUNT = 50;
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = BaseEntity.class)
+    @EnableJpaRepositories(basePackageClasses = EquipmentRepository.class)
+    @Import({EquipmentRequestService.class, StockReservationEngine.class, RequestItemJdbcRepository.class,
+            RequestSummaryService.class, ApprovalQueue.class})
+    static class BenchmarkConfig {
+    }
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        ConfigurableApplicationContext context;
+        EquipmentRequestService requestService;
+        Long userId;
+        List<Long> equipmentIds = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void start() {
+            context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.profiles.active=bench",
+                            "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                            "--spring.datasource.driver-class-name=org.h2.Driver",
+                            "--spring.jpa.hibernate.ddl-auto=create-drop",
+                            "--spring.main.banner-mode=off",
+                            "--logging.level.root=WARN");
+            requestService = context.getBean(EquipmentRequestService.class);
+
+            userId = context.getBean(UserRepository.class).save(User.builder()
+                    .email("bench@test.com").password("pw").name("bench").role(User.UserRole.USER)
+                    .build()).getId();
+
+            // 측정 중 재고가 바닥나지 않도록 충분히 크게
+            EquipmentRepository equipmentRepository = context.getBean(EquipmentRepository.class);
+            for (int i = 0; i < EQUIPMENT_COUNT; i++) {
+                equipmentIds.add(equipmentRepository.save(Equipment.builder()
+                        .name("비품 " + i).description("벤치마크").category("bench")
+                        .stock(1_000_000_000).available(true)
+                        .build()).getId());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+
+        List<RequestItemDto> cart(int size, int offset) {
+            List<RequestItemDto> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(new RequestItemDto(equipmentIds.get((offset + i) % EQUIPMENT_COUNT), 1));
+            }
+            return items;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cart {
+        @Param({"1", "5", "20"})
+        public int cartSize;
+
+        int offset;
+    }
+
+    @State(Scope.Thread)
+    public static class PendingRequests {
+        @Param({"10", "100"})
+        public int batchSize;
+
+        List<Long> ids;
+
+        // 측정 전마다 승인 대기 신청을 batchSize 건 새로 만듦 (측정 시간에는 포함되지 않음)
+        @Setup(Level.Invocation)
+        public void create(Database db) {
+            ids = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                ids.add(db.requestService.createRequest(db.userId, db.cart(3, i)));
+            }
+        }
+    }
+
+    @Benchmark
+    public Long createRequest(Database db, Cart cart) {
+        return db.requestService.createRequest(db.userId, db.cart(cart.cartSize, cart.offset++));
+    }
+
+    @Benchmark
+    public void approveOneByOne(Database db, PendingRequests pending) {
+        for (Long id : pending.ids) {
+            db.requestService.approve(id);
+        }
+    }
+
+    @Benchmark
+    public Object approveAll(Database db, PendingRequests pending) {
+        return db.requestService.approveAll(pending.ids);
+    }
+}
@@ -0,0 +1,141 @@
+package backend.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import backend.controller.EquipmentController.EquipmentResponse;
+import backend.controller.EquipmentRequestController.RequestItemResponse;
+import backend.controller.EquipmentRequestController.RequestResponse;
+import backend.domain.Equipment;
+import backend.domain.EquipmentRequest;
+import backend.domain.RequestItem;
+import backend.domain.User;
+import backend.service.ImageDerivativeService;
+import backend.service.ImageDiskCache;
+import backend.service.S3Service;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 엔티티 → 응답 DTO 변환과 Jackson 직렬화 비용 (목록 size 건 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "200"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ImageDerivativeService images;
+    private List<Equipment> equipment;
+    private List<EquipmentRequest> requests;
+
+    @Setup
+    public void setUp() throws IOException {
+        S3Client s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(AnonymousCredentialsProvider.create())
+                .build();
+        S3Service s3Service = new S3Service(s3Client, "bench-bucket", "ap-northeast-2", "", 8, 3000, 8 * 1024 * 1024);
+        ImageDiskCache diskCache = new ImageDiskCache(
+                Files.createTempDirectory("bench-image-cache").toString(), 1024 * 1024);
+        images = new ImageDerivativeService(s3Service, diskCache, "", 1, 1, 25_000_000, 10_000);
+
+        User user = persisted(User.builder()
+                .email("user@test.com").password("pw").name("tester").role(User.UserRole.USER)
+                .build(), 1L);
+
+        equipment = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            // 절반은 버킷 이미지(파생본 URL 생성), 절반은 외부 URL
+            String imageUrl = i % 2 == 0
+                    ? "https://bench-bucket.s3.ap-northeast-2.amazonaws.com/" + UUID.randomUUID() + ".png"
+                    : "https://images.unsplash.com/photo-" + i;
+            equipment.add(persisted(Equipment.builder()
+                    .name("비품 " + i).description("벤치마크용 비품 설명 " + i).category("category" + (i % 5))
+                    .imageUrl(imageUrl).stock(10).available(true)
+                    .build(), (long) i + 1));
+        }
+
+        requests = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            EquipmentRequest request = persisted(EquipmentRequest.builder()
+                    .user(user).status(EquipmentRequest.RequestStatus.PENDING)
+                    .build(), (long) i + 1);
+            for (int j = 0; j < 3; j++) {
+                request.addItem(persisted(RequestItem.builder()
+                        .equipment(equipment.get((i + j) % size)).quantity(1)
+                        .build(), (long) i * 3 + j + 1));
+            }
+            requests.add(request);
+        }
+    }
+
+    @Benchmark
+    public List<EquipmentResponse> mapEquipment() {
+        return equipment.stream().map(e -> EquipmentResponse.from(e, images)).toList();
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeEquipment() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapEquipment());
+    }
+
+    @Benchmark
+    public List<RequestResponse> mapRequests() {
+        return requests.stream().map(ResponseMappingBenchmark::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeRequests() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapRequests());
+    }
+
+    // 엔티티 → 응답 변환 (컨트롤러는 프로젝션 행만 변환하므로 벤치마크에 둠)
+    private static RequestResponse toResponse(EquipmentRequest request) {
+        List<RequestItemResponse> items = request.getItems().stream()
+                .map(item -> new RequestItemResponse(
+                        item.getId(),
+                        item.getEquipment().getId(),
+                        item.getEquipment().getName(),
+                        item.getQuantity()))
+                .toList();
+        return new RequestResponse(
+                request.getId(),
+                request.getUser().getId(),
+                request.getUser().getName(),
+                request.getStatus().name(),
+                items,
+                request.getCreatedAt().toString(),
+                request.getProcessedAt() != null ? request.getProcessedAt().toString() : null,
+                request.getRejectReason());
+    }
+
+    // DB 없이 저장된 엔티티처럼 id / createdAt 채우기
+    private static <T> T persisted(T entity, Long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", LocalDateTime.now());
+        return entity;
+    }
+}
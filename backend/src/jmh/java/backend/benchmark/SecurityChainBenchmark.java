@@ -0,0 +1,78 @@
+package backend.benchmark;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+import backend.config.SecurityConfig;
+import backend.filter.JwtAuthenticationFilter;
+import backend.util.JwtTokenCache;
+import backend.util.JwtUtil;
+import jakarta.servlet.ServletException;
+
+/**
+ * Spring Security 필터 체인 통과 비용 (컨트롤러 제외)
+ * - publicCatalog: GET /api/equipment → 경량 체인 (JWT 필터 없음)
+ * - authenticated: GET /api/requests/my → 기본 체인 (JWT 검증 + SecurityContext)
+ * - 할당량 비교는 -prof gc 로 실행 (./gradlew jmh -PjmhIncludes=SecurityChainBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityChainBenchmark {
+
+    @Param({"/api/equipment", "/api/requests/my"})
+    public String path;
+
+    private AnnotationConfigWebApplicationContext context;
+    private FilterChainProxy filterChainProxy;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "jwt.secret", JwtBenchmark.SECRET,
+                "jwt.access-expiration", "3600000",
+                "jwt.refresh-expiration", "1209600000")));
+        context.register(JwtUtil.class, JwtTokenCache.class, JwtAuthenticationFilter.class, SecurityConfig.class);
+        context.refresh();
+
+        filterChainProxy = context.getBean(FilterChainProxy.class);
+        authorization = "Bearer " + context.getBean(JwtUtil.class).generateAccessToken(1L, "user@test.com", "USER");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 카탈로그 화면은 로그인 상태에서도 호출되므로 Authorization 헤더를 붙여서 측정
+    @Benchmark
+    public MockHttpServletResponse request() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", authorization);
+        request.addHeader("Origin", "http://localhost:5173");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChainProxy.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
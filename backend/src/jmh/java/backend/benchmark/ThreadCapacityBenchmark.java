@@ -0,0 +1,96 @@
+package backend.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 동시 요청 처리량: Tomcat 기본 플랫폼 스레드 풀(200) vs 요청당 가상 스레드
+ * - 요청 burst 건이 한꺼번에 들어왔을 때 모두 끝날 때까지 걸리는 시간
+ * - 10% 는 느린 S3 업로드 (200ms, 업로드 세마포어 8), 나머지는 DB 조회 (5ms, 커넥션 풀 세마포어 20)
+ * - 플랫폼 풀은 S3 대기 중인 스레드가 풀을 점유해 DB 조회까지 밀리고, 가상 스레드는 세마포어에서만 대기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ThreadCapacityBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int DB_POOL_SIZE = 20;
+    private static final int MAX_CONCURRENT_UPLOADS = 8;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000", "5000"})
+    public int burst;
+
+    private ExecutorService executor;
+    private Semaphore dbPool;
+    private Semaphore uploadPermits;
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        dbPool = new Semaphore(DB_POOL_SIZE);
+        uploadPermits = new Semaphore(MAX_CONCURRENT_UPLOADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void handleBurst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(burst);
+        for (int i = 0; i < burst; i++) {
+            boolean upload = i % 10 == 0;
+            executor.execute(() -> {
+                try {
+                    if (upload) {
+                        blocking(uploadPermits, 200);
+                    } else {
+                        blocking(dbPool, 5);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private static void blocking(Semaphore permits, long millis) {
+        try {
+            permits.acquire();
+            try {
+                Thread.sleep(millis);
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
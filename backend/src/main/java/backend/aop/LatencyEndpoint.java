@@ -0,0 +1,88 @@
+package backend.aop;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메서드별 지연 시간 요약 (/actuator/latency, /actuator/latency/{layer})
+ * - p50/p95/p99 는 최근 시간 창 기준, max 도 최근 시간 창 기준
+ * - throughput 은 애플리케이션 시작 이후 평균 초당 호출 수
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public List<LatencySummary> summary() {
+        return summarize(meterRegistry.find(TimeTraceAop.METRIC_NAME).timers());
+    }
+
+    @ReadOperation
+    public List<LatencySummary> summaryByLayer(@Selector String layer) {
+        return summarize(meterRegistry.find(TimeTraceAop.METRIC_NAME).tag("layer", layer).timers());
+    }
+
+    private List<LatencySummary> summarize(Collection<Timer> timers) {
+        double uptimeSeconds = Math.max(1, ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0);
+        return timers.stream()
+                .map(timer -> LatencySummary.of(timer, uptimeSeconds))
+                .sorted(Comparator.comparingDouble(LatencySummary::getP99Ms).reversed())
+                .toList();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LatencySummary {
+        private String layer;
+        private String name;
+        private long count;
+        private double throughput; // 초당 호출 수
+        private double meanMs;
+        private double p50Ms;
+        private double p95Ms;
+        private double p99Ms;
+        private double maxMs;
+
+        static LatencySummary of(Timer timer, double uptimeSeconds) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            double p50 = 0, p95 = 0, p99 = 0;
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                double ms = value.value(TimeUnit.MILLISECONDS);
+                if (value.percentile() == 0.5) {
+                    p50 = ms;
+                } else if (value.percentile() == 0.95) {
+                    p95 = ms;
+                } else if (value.percentile() == 0.99) {
+                    p99 = ms;
+                }
+            }
+            return new LatencySummary(
+                    timer.getId().getTag("layer"),
+                    timer.getId().getTag("class") + "." + timer.getId().getTag("method"),
+                    snapshot.count(),
+                    snapshot.count() / uptimeSeconds,
+                    snapshot.mean(TimeUnit.MILLISECONDS),
+                    p50, p95, p99,
+                    snapshot.max(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -1,24 +1,93 @@
-package backend.aop; 
+package backend.aop;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
-@Aspect    
-@Component  
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 컨트롤러/서비스/리포지토리 메서드 실행 시간 측정
+ * - System.nanoTime 으로 재서 Micrometer Timer (시간 창 기반 HDR 히스토그램) 에 기록
+ * - Timer 는 (대상 클래스, 메서드) 별로 처음 한 번만 만들고 이후에는 맵 조회만 함 (문자열 조합 없음)
+ * - 결과는 /actuator/metrics/app.method.latency 와 /actuator/latency 에서 확인
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
 public class TimeTraceAop {
 
-    @Around("execution(* backend.controller..*(..))")
+    public static final String METRIC_NAME = "app.method.latency";
+
+    private final MeterRegistry meterRegistry;
+
+    // 대상 클래스 → 메서드 → Timer (두 단계로 나눠서 조회용 key 객체를 만들지 않음)
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(* backend.controller..*(..)) || execution(* backend.service..*(..)) || bean(*Repository)")
     public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        System.out.println("START: " + joinPoint.toString());
+        Timer timer = timer(joinPoint);
+        long start = System.nanoTime();
         try {
             return joinPoint.proceed(); // 실제 메서드 실행
         } finally {
-            long finish = System.currentTimeMillis();
-            long timeMs = finish - start;
-            System.out.println("⏱️ END: " + joinPoint.toString() + " " + timeMs + "ms");
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        Map<Method, Timer> byMethod = timers.get(targetClass);
+        if (byMethod == null) {
+            byMethod = timers.computeIfAbsent(targetClass, k -> new ConcurrentHashMap<>());
+        }
+        Timer timer = byMethod.get(method);
+        if (timer == null) {
+            timer = byMethod.computeIfAbsent(method, m -> register(targetClass, m));
+        }
+        return timer;
+    }
+
+    private Timer register(Class<?> targetClass, Method method) {
+        String className = displayName(targetClass);
+        return Timer.builder(METRIC_NAME)
+                .tag("layer", layerOf(targetClass, className))
+                .tag("class", className)
+                .tag("method", method.getName())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    // Spring Data 리포지토리는 JDK 프록시이므로 구현한 리포지토리 인터페이스 이름을 사용
+    private static String displayName(Class<?> targetClass) {
+        if (Proxy.isProxyClass(targetClass) && targetClass.getInterfaces().length > 0) {
+            return targetClass.getInterfaces()[0].getSimpleName();
+        }
+        String name = targetClass.getSimpleName();
+        int cglib = name.indexOf("$$");
+        return cglib > 0 ? name.substring(0, cglib) : name;
+    }
+
+    private static String layerOf(Class<?> targetClass, String className) {
+        String packageName = targetClass.getPackageName();
+        if (packageName.startsWith("backend.controller")) {
+            return "controller";
+        }
+        if (packageName.startsWith("backend.service")) {
+            return "service";
         }
+        return className.endsWith("Repository") ? "repository" : "other";
     }
-}
\ No newline at end of file
+}
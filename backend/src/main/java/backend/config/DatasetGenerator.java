@@ -0,0 +1,187 @@
+package backend.config;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트용 대량 데이터 생성 (--spring.profiles.active=local,dataset)
+ * - 사용자 N명, 비품 M개, 신청 R건 (+ 신청당 항목 1~K개) 을 JDBC batch INSERT 로 생성
+ * - 신청 상태 비율: PENDING 10%, APPROVED 70%, REJECTED 20% (최근 180일에 고르게 분포)
+ * - id 는 현재 MAX(id) 다음부터 직접 지정 (IDENTITY 키를 되돌려 받지 않아도 되도록)
+ * - 로그인용 계정: loadtest-admin@test.com / loadtest{n}@test.com, 비밀번호는 dataset.password
+ * - loadtest 계정이 이미 있으면 건너뜀
+ */
+@Slf4j
+@Component
+@Profile("dataset")
+@Order(0) // DataLoader 보다 먼저 실행 (사용자가 생기면 DataLoader 는 건너뜀)
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final String[] CATEGORIES = {
+            "laptop", "monitor", "peripherals", "office_supplies", "furniture", "others"};
+    private static final String[] NAME_PARTS = {
+            "MacBook", "ThinkPad", "모니터", "키보드", "마우스", "의자", "책상", "헤드셋", "웹캠", "도킹스테이션",
+            "A4 용지", "스탠드", "태블릿", "충전기", "케이블"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final int userCount;
+    private final int equipmentCount;
+    private final int requestCount;
+    private final int maxItemsPerRequest;
+    private final int batchSize;
+    private final String password;
+    private final SplittableRandom random;
+
+    public DatasetGenerator(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            @Value("${dataset.users:1000}") int userCount,
+            @Value("${dataset.equipment:500}") int equipmentCount,
+            @Value("${dataset.requests:1000000}") int requestCount,
+            @Value("${dataset.max-items-per-request:3}") int maxItemsPerRequest,
+            @Value("${dataset.batch-size:5000}") int batchSize,
+            @Value("${dataset.password:loadtest1234}") String password,
+            @Value("${dataset.seed:42}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.userCount = userCount;
+        this.equipmentCount = equipmentCount;
+        this.requestCount = requestCount;
+        this.maxItemsPerRequest = maxItemsPerRequest;
+        this.batchSize = batchSize;
+        this.password = password;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void run(String... args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE 'loadtest%'", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("부하 테스트 데이터가 이미 있어 생성을 건너뜁니다.");
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        long firstUserId = nextId("users");
+        insertUsers(firstUserId);
+        long firstEquipmentId = nextId("equipment");
+        insertEquipment(firstEquipmentId);
+        long items = insertRequests(nextId("equipment_requests"), nextId("request_items"),
+                firstUserId + 1, firstEquipmentId); // firstUserId 는 관리자
+
+        log.info("부하 테스트 데이터 생성 완료: 사용자 {}명, 비품 {}개, 신청 {}건, 항목 {}건 ({}ms)",
+                userCount + 1, equipmentCount, requestCount, items, System.currentTimeMillis() - started);
+    }
+
+    private void insertUsers(long firstId) {
+        // BCrypt 는 비싸므로 한 번만 인코딩해서 모든 계정에 같은 해시 사용
+        String encoded = passwordEncoder.encode(password);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        rows.add(new Object[] {firstId, "loadtest-admin@test.com", encoded, "부하테스트 관리자", "ADMIN", now});
+        for (int i = 1; i <= userCount; i++) {
+            rows.add(new Object[] {firstId + i, "loadtest" + i + "@test.com", encoded, "부하테스트" + i, "USER", now});
+            if (rows.size() == batchSize) {
+                flush("INSERT INTO users (id, email, password, name, role, created_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+            }
+        }
+        flush("INSERT INTO users (id, email, password, name, role, created_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertEquipment(long firstId) {
+        String sql = "INSERT INTO equipment (id, name, description, category, image_url, stock, available, version, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < equipmentCount; i++) {
+            String name = NAME_PARTS[random.nextInt(NAME_PARTS.length)] + " " + (i + 1);
+            rows.add(new Object[] {
+                    firstId + i,
+                    name,
+                    name + " 부하 테스트용 비품",
+                    CATEGORIES[i % CATEGORIES.length],
+                    null,
+                    random.nextInt(1_000, 100_000), // 부하 테스트 중 재고가 바닥나지 않도록 넉넉하게
+                    random.nextInt(10) != 0, // 10% 는 신청 불가
+                    now});
+            if (rows.size() == batchSize) {
+                flush(sql, rows);
+            }
+        }
+        flush(sql, rows);
+    }
+
+    // 반환값: 생성한 항목 수
+    private long insertRequests(long firstRequestId, long firstItemId, long firstUserId, long firstEquipmentId) {
+        String requestSql = "INSERT INTO equipment_requests (id, user_id, status, reject_reason, processed_at, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        String itemSql = "INSERT INTO request_items (id, request_id, equipment_id, quantity, created_at) VALUES (?, ?, ?, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> requests = new ArrayList<>(batchSize);
+        List<Object[]> items = new ArrayList<>(batchSize * maxItemsPerRequest);
+        long itemId = firstItemId;
+        for (int i = 0; i < requestCount; i++) {
+            long requestId = firstRequestId + i;
+            LocalDateTime createdAt = now.minusSeconds(random.nextLong(180L * 24 * 3600));
+            Timestamp created = Timestamp.valueOf(createdAt);
+
+            int roll = random.nextInt(100);
+            String status = roll < 10 ? "PENDING" : roll < 80 ? "APPROVED" : "REJECTED";
+            Timestamp processedAt = roll < 10 ? null
+                    : Timestamp.valueOf(createdAt.plusMinutes(random.nextInt(10, 3 * 24 * 60)));
+            String rejectReason = "REJECTED".equals(status) ? "재고 부족" : null;
+            requests.add(new Object[] {
+                    requestId, firstUserId + random.nextInt(userCount), status, rejectReason, processedAt, created});
+
+            // 한 신청 안에서는 비품이 겹치지 않도록 연속된 id 사용
+            int itemCount = random.nextInt(1, maxItemsPerRequest + 1);
+            int equipmentOffset = random.nextInt(equipmentCount);
+            for (int j = 0; j < itemCount; j++) {
+                long equipmentId = firstEquipmentId + (equipmentOffset + j) % equipmentCount;
+                items.add(new Object[] {itemId++, requestId, equipmentId, random.nextInt(1, 4), created});
+            }
+
+            if (requests.size() == batchSize) {
+                flush(requestSql, requests);
+                flush(itemSql, items);
+                if ((i + 1) % (batchSize * 20) == 0) {
+                    log.info("신청 생성 중: {}/{}", i + 1, requestCount);
+                }
+            }
+        }
+        flush(requestSql, requests);
+        flush(itemSql, items);
+        return itemId - firstItemId;
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+        rows.clear();
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max + 1 : 1;
+    }
+}
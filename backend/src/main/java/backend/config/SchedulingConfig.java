@@ -0,0 +1,10 @@
+package backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (자동 승인 스케줄러 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,8 +3,11 @@ package backend.config;
 import java.util.Arrays;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -12,11 +15,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import backend.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -29,25 +34,60 @@ public class SecurityConfig {
     @Value("${CORS_ALLOWED_ORIGINS:http://localhost:5173}")
     private String allowedOrigins;
 
+    // cost 를 바꾸면 기존 해시는 다음 로그인 때 새 cost 로 다시 저장됨 (UserService.authenticate)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
+    // JwtAuthenticationFilter 는 @Component 라 서블릿 필터로도 자동 등록됨 → 보안 체인 안에서만 실행되도록 끔
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    // 설정은 시작할 때 한 번만 만들고 두 체인이 같이 사용
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
-        configuration.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
+        configuration.setAllowedOrigins(Arrays.stream(allowedOrigins.split(",")).map(String::trim).toList());
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
+        configuration.setMaxAge(3600L); // 브라우저가 preflight 결과를 1시간 재사용
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
     }
 
+    /**
+     * 공개 카탈로그 조회(GET /api/equipment/**) 전용 경량 체인
+     * - JWT 파싱, SecurityContext 저장/복원, 익명 인증, 인가 필터 없이 CORS 와 보안 헤더만 적용
+     * - 수정(POST/PUT/DELETE) 요청은 아래 기본 체인으로 감
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicCatalogFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(new AntPathRequestMatcher("/api/equipment/**", HttpMethod.GET.name()))
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .csrf(csrf -> csrf.disable())
+            .securityContext(context -> context.disable())
+            .sessionManagement(session -> session.disable())
+            .requestCache(cache -> cache.disable())
+            .anonymous(anonymous -> anonymous.disable())
+            .servletApi(servletApi -> servletApi.disable())
+            .logout(logout -> logout.disable())
+            .exceptionHandling(exceptions -> exceptions.disable());
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -57,13 +97,20 @@ public class SecurityConfig {
 
             // 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답의 ASYNC 재디스패치는 최초 요청에서 이미 인가됨
+                // ERROR 디스패치는 허용해야 로그인 503 등 원래 상태 코드가 403 으로 바뀌지 않음
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/equipment/**").permitAll()
+                .requestMatchers("/api/stream").permitAll() // 비로그인은 비품 변경만, 토큰이 있으면 본인 신청 상태까지 (노드당 연결 한도는 SseHub)
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
 
                 // 관리자만 접근 가능
                 .requestMatchers("/api/requests/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
@@ -1,17 +1,18 @@
 package backend.controller;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import backend.domain.User;
+import backend.service.RefreshTokenService;
 import backend.service.UserService;
 import backend.util.JwtUtil;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -20,8 +21,8 @@ import lombok.RequiredArgsConstructor;
 public class AuthController {
 
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/signup")
     public ResponseEntity<SignupResponse> signup(@RequestBody SignupRequest request) {
@@ -38,10 +39,9 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-        User user = userService.findByEmail(request.getEmail());
-
-        // BCrypt 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // BCrypt 비밀번호 검증 (전용 작업 풀에서 실행, 몰리면 503 + Retry-After)
+        User user = userService.authenticate(request.getEmail(), request.getPassword()).orElse(null);
+        if (user == null) {
             return ResponseEntity.status(401).build();
         }
 
@@ -51,7 +51,7 @@ public class AuthController {
                 user.getEmail(),
                 user.getRole().name()
         );
-        String refreshToken = jwtUtil.generateRefreshToken(user.getId());
+        String refreshToken = refreshTokenService.issue(user);
 
         return ResponseEntity.ok(new LoginResponse(
                 user.getId(),
@@ -63,6 +63,17 @@ public class AuthController {
         ));
     }
 
+    // 액세스 토큰 갱신 (리프레시 토큰도 함께 회전, 이전 리프레시 토큰은 더 이상 사용 불가)
+    @PostMapping("/refresh")
+    public ResponseEntity<RefreshResponse> refresh(@RequestBody RefreshRequest request) {
+        if (request.getRefreshToken() == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return refreshTokenService.rotate(request.getRefreshToken())
+                .map(tokens -> ResponseEntity.ok(new RefreshResponse(tokens.getAccessToken(), tokens.getRefreshToken())))
+                .orElseGet(() -> ResponseEntity.status(401).build());
+    }
+
     @Getter
     @AllArgsConstructor
     public static class SignupRequest {
@@ -95,4 +106,18 @@ public class AuthController {
         private String accessToken;
         private String refreshToken;
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RefreshRequest {
+        private String refreshToken;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RefreshResponse {
+        private String accessToken;
+        private String refreshToken;
+    }
 }
@@ -0,0 +1,130 @@
+package backend.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import backend.controller.EquipmentController.EquipmentResponse;
+import backend.event.EquipmentChangedEvent;
+import backend.service.EquipmentService;
+import backend.service.ImageDerivativeService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직렬화까지 끝난 비품 목록 스냅샷
+ * - 전체 목록 / 카테고리별 목록을 UTF-8 JSON, gzip 바이트와 ETag 로 미리 만들어 둔다
+ * - 비품이 바뀌면 커밋 후 세대 번호만 올리고, 다음 요청에서 한 번만 다시 만든다
+ * - 다시 만들 때는 중간 캐시 없이 DB 에서 바로 읽음 → 세대 번호를 먼저 읽고 조회하므로,
+ *   조회가 커밋 전 값을 봤다면 그 스냅샷은 옛 세대로 남아 다음 요청에서 다시 만들어짐 (옛 목록 + 새 ETag 조합이 생기지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class EquipmentCatalogSnapshot {
+
+    private final EquipmentService equipmentService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot current;
+
+    public Body all() {
+        return snapshot().all();
+    }
+
+    public Body category(String category) {
+        Snapshot snapshot = snapshot();
+        return snapshot.categories().getOrDefault(category, snapshot.empty());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEquipmentChanged(EquipmentChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.generation() == generation.get()) {
+            return snapshot;
+        }
+        rebuildLock.lock();
+        try {
+            snapshot = current;
+            long target = generation.get();
+            if (snapshot != null && snapshot.generation() == target) {
+                return snapshot;
+            }
+            snapshot = build(target);
+            current = snapshot;
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot build(long generation) {
+        List<EquipmentResponse> all = equipmentService.findAll().stream()
+                .map(equipment -> EquipmentResponse.from(equipment, imageDerivativeService))
+                .collect(Collectors.toList());
+
+        Map<String, List<EquipmentResponse>> grouped = all.stream()
+                .collect(Collectors.groupingBy(EquipmentResponse::getCategory, LinkedHashMap::new, Collectors.toList()));
+        Map<String, Body> categories = new LinkedHashMap<>();
+        grouped.forEach((category, list) -> categories.put(category, body(list)));
+
+        return new Snapshot(generation, body(all), categories, body(List.of()));
+    }
+
+    private Body body(List<EquipmentResponse> list) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(list);
+            String hash = sha256(json);
+            return new Body(json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("비품 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Snapshot(long generation, Body all, Map<String, Body> categories, Body empty) {
+    }
+
+    // json/gzip 배열은 공유되므로 수정하지 말 것
+    public record Body(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+}
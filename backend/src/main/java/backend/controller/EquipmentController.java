@@ -1,8 +1,13 @@
 package backend.controller;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,13 +15,17 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import backend.domain.Equipment;
+import backend.repository.EquipmentRow;
 import backend.service.EquipmentService;
+import backend.service.ImageDerivativeService;
+import backend.service.ImageDerivativeService.Variant;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -28,27 +37,100 @@ import lombok.Setter;
 public class EquipmentController {
 
     private final EquipmentService equipmentService;
+    private final EquipmentCatalogSnapshot catalogSnapshot;
+    private final ImageDerivativeService imageDerivativeService;
 
+    // 미리 직렬화해 둔 스냅샷을 그대로 전송 (If-None-Match 가 ETag 와 같으면 304)
+    // gzip / 원본은 ETag 가 다르고 Vary: Accept-Encoding 으로 캐시가 두 응답을 따로 보관
     @GetMapping
-    public ResponseEntity<List<EquipmentResponse>> findAll() {
-        List<Equipment> equipmentList = equipmentService.findAll();
-        List<EquipmentResponse> response = equipmentList.stream()
-                .map(item -> EquipmentResponse.from(item))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> findAll(
+            @RequestParam(required = false) String category,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        EquipmentCatalogSnapshot.Body body = category != null
+                ? catalogSnapshot.category(category)
+                : catalogSnapshot.all();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return response
+                    .eTag(body.gzipEtag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(body.gzip());
+        }
+        return response.eTag(body.etag()).body(body.json());
+    }
+
+    /**
+     * Accept-Encoding 에서 gzip 을 받겠다고 했는지 (q 값 반영)
+     * - gzip(x-gzip) 이 직접 있으면 그 q 로 판단, 없으면 * 의 q 로 판단
+     * - q=0 은 거부 ("gzip;q=0" 에 gzip 을 보내지 않음)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String range : acceptEncoding.split(",")) {
+            String[] parts = range.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = qualityOf(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    // q 파라미터가 없으면 1, 잘못된 값이면 0 (받지 않는 것으로)
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<EquipmentResponse> findById(@PathVariable Long id) {
         Equipment equipment = equipmentService.findById(id);
-        return ResponseEntity.ok(EquipmentResponse.from(equipment));
+        return ResponseEntity.ok(EquipmentResponse.from(equipment, imageDerivativeService));
+    }
+
+    // 이미지 파생본 (key 가 내용마다 고유하므로 1년 immutable 캐시)
+    @GetMapping("/images/{imageId}/{variant}")
+    public ResponseEntity<byte[]> image(@PathVariable String imageId, @PathVariable String variant) {
+        return Variant.fromPath(variant)
+                .flatMap(v -> imageDerivativeService.find(imageId, v))
+                .map(bytes -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                        .body(bytes))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<EquipmentResponse>> search(@RequestParam String keyword) {
-        List<Equipment> equipmentList = equipmentService.search(keyword);
+    public ResponseEntity<List<EquipmentResponse>> search(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<EquipmentRow> equipmentList = equipmentService.search(keyword, Math.min(limit, 100));
         List<EquipmentResponse> response = equipmentList.stream()
-                .map(EquipmentResponse::from)
+                .map(equipment -> EquipmentResponse.from(equipment, imageDerivativeService))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
@@ -100,20 +182,34 @@ public class EquipmentController {
         private String description;
         private String category;
         private String imageUrl;
+        private String thumbnailUrl;
+        private String cardUrl;
+        private String detailUrl;
         private Integer stock;
         private Boolean available;
         private String createdAt;
 
-        public static EquipmentResponse from(Equipment equipment) {
+        public static EquipmentResponse from(Equipment equipment, ImageDerivativeService images) {
+            return from(new EquipmentRow(equipment.getId(), equipment.getName(), equipment.getDescription(),
+                    equipment.getCategory(), equipment.getImageUrl(), equipment.getStock(),
+                    equipment.getAvailable(), equipment.getCreatedAt()), images);
+        }
+
+        // 목록/검색: 엔티티 없이 프로젝션에서 바로 변환
+        public static EquipmentResponse from(EquipmentRow equipment, ImageDerivativeService images) {
+            String imageUrl = equipment.imageUrl();
             return new EquipmentResponse(
-                    equipment.getId(),
-                    equipment.getName(),
-                    equipment.getDescription(),
-                    equipment.getCategory(),
-                    equipment.getImageUrl(),
-                    equipment.getStock(),
-                    equipment.getAvailable(),
-                    equipment.getCreatedAt().toString()
+                    equipment.id(),
+                    equipment.name(),
+                    equipment.description(),
+                    equipment.category(),
+                    imageUrl,
+                    images.urlOf(imageUrl, Variant.THUMBNAIL),
+                    images.urlOf(imageUrl, Variant.CARD),
+                    images.urlOf(imageUrl, Variant.DETAIL),
+                    equipment.stock(),
+                    equipment.available(),
+                    equipment.createdAt().toString()
             );
         }
     }
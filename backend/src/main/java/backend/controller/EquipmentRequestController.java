@@ -1,19 +1,44 @@
 package backend.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import backend.domain.EquipmentRequest;
+import backend.repository.EquipmentRequestRepository.RequestItemRow;
+import backend.repository.RequestListRow;
 import backend.service.EquipmentRequestService;
+import backend.service.EquipmentRequestService.BatchResult;
+import backend.service.EquipmentRequestService.RequestPage;
+import backend.service.RequestEventStream;
+import backend.service.RequestSummaryService;
+import backend.service.RequestSummaryService.RecentRequest;
+import backend.service.RequestSummaryService.SummaryView;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +49,9 @@ import lombok.RequiredArgsConstructor;
 public class EquipmentRequestController {
 
     private final EquipmentRequestService requestService;
+    private final RequestSummaryService requestSummaryService;
+    private final RequestEventStream requestEventStream;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<CreateRequestResponse> create(
@@ -44,24 +72,75 @@ public class EquipmentRequestController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<List<RequestResponse>> findMyRequests(Authentication authentication) {
+    public ResponseEntity<List<RequestResponse>> findMyRequests(
+            Authentication authentication,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
         // JWT에서 userId 추출
         Long userId = Long.parseLong(authentication.getName());
 
-        List<EquipmentRequest> requests = requestService.findMyRequests(userId);
-        List<RequestResponse> response = requests.stream()
-                .map(RequestResponse::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        // size 가 없으면 기존처럼 전체 조회
+        Pageable pageable = size != null ? PageRequest.of(page != null ? page : 0, size) : Pageable.unpaged();
+        List<RequestListRow> rows = requestService.findMyRequests(userId, pageable);
+        return ResponseEntity.ok(RequestResponse.fromRows(rows));
     }
 
-    @GetMapping("/admin/all")
-    public ResponseEntity<List<RequestResponse>> findAll() {
-        List<EquipmentRequest> requests = requestService.findAll();
-        List<RequestResponse> response = requests.stream()
-                .map(RequestResponse::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+    // 내 신청 요약 (상태별 건수 + 최근 신청): 요약 테이블 한 행만 조회
+    @GetMapping("/my/summary")
+    public ResponseEntity<MySummaryResponse> findMySummary(Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        return ResponseEntity.ok(MySummaryResponse.from(requestSummaryService.getSummary(userId)));
+    }
+
+    // 전체 사용자 요약 재계산 (도입 시 backfill / 불일치 복구)
+    @PostMapping("/admin/summary/rebuild")
+    public ResponseEntity<RebuildSummaryResponse> rebuildSummaries() {
+        int users = requestSummaryService.rebuildAll();
+        return ResponseEntity.ok(new RebuildSummaryResponse(users, "신청 요약 재계산 완료"));
+    }
+
+    // 관리자 목록 상단 상태별 건수 (목록은 /admin/page 로 페이지 단위 조회)
+    @GetMapping("/admin/stats")
+    public ResponseEntity<StatusCountResponse> countByStatus() {
+        return ResponseEntity.ok(StatusCountResponse.from(requestService.countByStatus()));
+    }
+
+    // 키셋 페이지네이션: 다음 페이지는 응답의 nextCursorCreatedAt/nextCursorId 를 그대로 넘긴다
+    @GetMapping("/admin/page")
+    public ResponseEntity<RequestPageResponse> findPage(
+            @RequestParam(required = false) EquipmentRequest.RequestStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "50") int size) {
+        int pageSize = Math.min(Math.max(size, 1), 500);
+        RequestPage page = requestService.findPage(status, from, to, cursorCreatedAt, cursorId, pageSize);
+        return ResponseEntity.ok(RequestPageResponse.from(page));
+    }
+
+    // 대량 내보내기: DB 에서 읽는 대로 JSON 배열을 응답에 바로 써서 메모리 사용량을 일정하게 유지
+    @GetMapping(value = "/admin/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) EquipmentRequest.RequestStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                ExportWriter writer = new ExportWriter(generator);
+                generator.writeStartArray();
+                requestService.exportItemRows(status, from, to, writer);
+                writer.finish();
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 신청 상태 전이 실시간 구독 (재연결 시 브라우저가 Last-Event-ID 를 보내면 놓친 이벤트부터 재전송)
+    @GetMapping(value = "/admin/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return requestEventStream.subscribe(lastEventId);
     }
 
     @PostMapping("/admin/{id}/approve")
@@ -76,6 +155,32 @@ public class EquipmentRequestController {
         return ResponseEntity.ok("반려 완료");
     }
 
+    // 일괄 승인: ids 또는 (status, createdBefore) 필터로 대상 지정
+    @PostMapping("/admin/batch/approve")
+    public ResponseEntity<BatchProcessResponse> approveAll(@RequestBody BatchProcessRequest request) {
+        List<BatchResult> results = requestService.approveAll(resolveTargetIds(request));
+        return ResponseEntity.ok(BatchProcessResponse.from(results));
+    }
+
+    @PostMapping("/admin/batch/reject")
+    public ResponseEntity<BatchProcessResponse> rejectAll(@RequestBody BatchProcessRequest request) {
+        List<BatchResult> results = requestService.rejectAll(resolveTargetIds(request), request.getReason());
+        return ResponseEntity.ok(BatchProcessResponse.from(results));
+    }
+
+    private List<Long> resolveTargetIds(BatchProcessRequest request) {
+        if (request.getIds() != null) {
+            return request.getIds();
+        }
+        if (request.getCreatedBefore() == null) {
+            throw new IllegalArgumentException("ids 또는 createdBefore 중 하나는 필요합니다.");
+        }
+        EquipmentRequest.RequestStatus status = request.getStatus() != null
+                ? EquipmentRequest.RequestStatus.valueOf(request.getStatus())
+                : EquipmentRequest.RequestStatus.PENDING;
+        return requestService.findIdsByStatusCreatedBefore(status, request.getCreatedBefore());
+    }
+
     @Getter
     @AllArgsConstructor
     public static class CreateRequestRequest {
@@ -109,26 +214,131 @@ public class EquipmentRequestController {
         private String processedAt;
         private String rejectReason;
 
-        public static RequestResponse from(EquipmentRequest request) {
-            List<RequestItemResponse> items = request.getItems().stream()
-                    .map(item -> new RequestItemResponse(
-                            item.getId(),
-                            item.getEquipment().getId(),
-                            item.getEquipment().getName(),
-                            item.getQuantity()
-                    ))
-                    .collect(Collectors.toList());
-
-            return new RequestResponse(
-                    request.getId(),
-                    request.getUser().getId(),
-                    request.getUser().getName(),
-                    request.getStatus().name(),
-                    items,
-                    request.getCreatedAt().toString(),
-                    request.getProcessedAt() != null ? request.getProcessedAt().toString() : null,
-                    request.getRejectReason()
-            );
+        // 프로젝션 행 → 응답 (행은 신청 단위로 연속, 항목이 없는 신청은 itemId 가 null 인 1행)
+        public static List<RequestResponse> fromRows(List<RequestListRow> rows) {
+            List<RequestResponse> responses = new ArrayList<>();
+            RequestResponse current = null;
+            for (RequestListRow row : rows) {
+                if (current == null || !current.id.equals(row.requestId())) {
+                    current = new RequestResponse(
+                            row.requestId(),
+                            row.userId(),
+                            row.userName(),
+                            row.status().name(),
+                            new ArrayList<>(),
+                            row.createdAt().toString(),
+                            row.processedAt() != null ? row.processedAt().toString() : null,
+                            row.rejectReason()
+                    );
+                    responses.add(current);
+                }
+                if (row.itemId() != null) {
+                    current.items.add(new RequestItemResponse(
+                            row.itemId(), row.equipmentId(), row.equipmentName(), row.quantity()));
+                }
+            }
+            return responses;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StatusCountResponse {
+        private long pending;
+        private long approved;
+        private long rejected;
+
+        public static StatusCountResponse from(Map<EquipmentRequest.RequestStatus, Long> counts) {
+            return new StatusCountResponse(
+                    counts.get(EquipmentRequest.RequestStatus.PENDING),
+                    counts.get(EquipmentRequest.RequestStatus.APPROVED),
+                    counts.get(EquipmentRequest.RequestStatus.REJECTED));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class MySummaryResponse {
+        private long pending;
+        private long approved;
+        private long rejected;
+        private long total;
+        private List<RecentRequest> recent;
+
+        public static MySummaryResponse from(SummaryView view) {
+            return new MySummaryResponse(view.pending(), view.approved(), view.rejected(),
+                    view.pending() + view.approved() + view.rejected(), view.recent());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RebuildSummaryResponse {
+        private int users;
+        private String message;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RequestPageResponse {
+        private List<RequestResponse> content;
+        private boolean hasNext;
+        private String nextCursorCreatedAt;
+        private Long nextCursorId;
+
+        public static RequestPageResponse from(RequestPage page) {
+            List<RequestResponse> content = RequestResponse.fromRows(page.getContent());
+            if (!page.isHasNext() || content.isEmpty()) {
+                return new RequestPageResponse(content, false, null, null);
+            }
+            RequestResponse last = content.get(content.size() - 1);
+            return new RequestPageResponse(content, true, last.getCreatedAt(), last.getId());
+        }
+    }
+
+    // 연속으로 들어오는 항목 행을 신청 단위 JSON 객체로 묶어서 바로 기록 (RequestResponse 와 같은 필드)
+    private static class ExportWriter implements Consumer<RequestItemRow> {
+        private final JsonGenerator generator;
+        private Long currentRequestId;
+
+        ExportWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void accept(RequestItemRow row) {
+            try {
+                if (!row.getRequestId().equals(currentRequestId)) {
+                    finish();
+                    currentRequestId = row.getRequestId();
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", row.getRequestId());
+                    generator.writeNumberField("userId", row.getUserId());
+                    generator.writeStringField("userName", row.getUserName());
+                    generator.writeStringField("status", row.getStatus().name());
+                    generator.writeStringField("createdAt", row.getCreatedAt().toString());
+                    generator.writeStringField("processedAt",
+                            row.getProcessedAt() != null ? row.getProcessedAt().toString() : null);
+                    generator.writeStringField("rejectReason", row.getRejectReason());
+                    generator.writeArrayFieldStart("items");
+                }
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.getItemId());
+                generator.writeNumberField("equipmentId", row.getEquipmentId());
+                generator.writeStringField("equipmentName", row.getEquipmentName());
+                generator.writeNumberField("quantity", row.getQuantity());
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            if (currentRequestId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                currentRequestId = null;
+            }
         }
     }
 
@@ -146,4 +356,28 @@ public class EquipmentRequestController {
     public static class RejectRequest {
         private String reason;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BatchProcessRequest {
+        private List<Long> ids;
+        private String status;
+        private LocalDateTime createdBefore;
+        private String reason;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BatchProcessResponse {
+        private int total;
+        private long succeeded;
+        private List<BatchResult> results;
+
+        public static BatchProcessResponse from(List<BatchResult> results) {
+            long succeeded = results.stream()
+                    .filter(result -> result.getOutcome() == BatchResult.Outcome.SUCCESS)
+                    .count();
+            return new BatchProcessResponse(results.size(), succeeded, results);
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import backend.service.SseHub;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final SseHub sseHub;
+
+    /**
+     * 실시간 변경 구독 (목록 폴링 대신 사용)
+     * - 모든 연결: 비품 변경 (equipment)
+     * - 로그인 사용자: 본인 신청 상태 변경 (request-status), 관리자는 모든 신청
+     * - resync 를 받으면 밀린 변경을 버린 것이므로 목록을 한 번 다시 조회
+     */
+    @GetMapping(value = "/api/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication) {
+        if (authentication == null) {
+            return sseHub.connect(null, false, true, List.of());
+        }
+        Long userId = Long.parseLong(authentication.getName());
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return sseHub.connect(userId, admin, true, List.of());
+    }
+}
@@ -1,10 +1,16 @@
 package backend.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Table(name = "equipment")
+// READ_WRITE: 커밋 시 캐시 항목을 version 과 함께 교체 (수정 중에는 soft lock → 다른 트랜잭션은 DB 에서 읽음)
+// 재고 조건부 UPDATE(decreaseStock) 같은 벌크 쿼리는 영역 전체를 비움
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "equipment-entity")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -4,6 +4,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -43,6 +47,8 @@ public class EquipmentRequest extends BaseEntity {
     private LocalDateTime processedAt;
     //fetch = FetchType.EAGET => LAZY
     @OneToMany(mappedBy = "equipmentRequest", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 100) // fetch join 없이 접근해도 신청 100건 단위 IN 쿼리로 로딩
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "request-items-collection") // 항목은 생성 후 바뀌지 않음
     @Builder.Default
     private List<RequestItem> items = new ArrayList<>();
 
@@ -51,16 +57,24 @@ public class EquipmentRequest extends BaseEntity {
     }
 
     public void approve() {
+        checkPending();
         this.status = RequestStatus.APPROVED;
         this.processedAt = LocalDateTime.now();
     }
 
     public void reject(String reason) {
+        checkPending();
         this.status = RequestStatus.REJECTED;
         this.rejectReason = reason;
         this.processedAt = LocalDateTime.now();
     }
 
+    private void checkPending() {
+        if (this.status != RequestStatus.PENDING) {
+            throw new IllegalStateException("이미 처리된 신청입니다.");
+        }
+    }
+
     // RequestItem 양방향 연관관계 편의 메서드
     public void addItem(RequestItem item) {
         this.items.add(item);
@@ -0,0 +1,51 @@
+package backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 family (로그인 1회 = family 1개)
+ * - 회전할 때마다 currentTokenId 만 바뀜, 이전 토큰이 다시 오면 재사용으로 보고 family 전체를 폐기
+ * - RefreshTokenService 메모리 저장소의 영속 백업 (재시작 후 조회용)
+ */
+@Entity
+@Table(name = "refresh_token_families")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshTokenFamily extends BaseEntity {
+
+    @Column(name = "family_id", nullable = false, unique = true, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String role;
+
+    @Column(name = "current_token_id", nullable = false, length = 36)
+    private String currentTokenId;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 폐기는 되돌리지 않음 (늦게 도착한 저장이 폐기된 family 를 다시 열지 않도록)
+    public void sync(String currentTokenId, boolean revoked, LocalDateTime expiresAt) {
+        if (this.revoked) {
+            return;
+        }
+        this.currentTokenId = currentTokenId;
+        this.revoked = revoked;
+        this.expiresAt = expiresAt;
+    }
+}
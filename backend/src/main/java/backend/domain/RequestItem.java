@@ -1,10 +1,15 @@
 package backend.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
 @Table(name = "request_items")
+// EquipmentRequest.items 컬렉션 캐시는 id 만 저장하므로 항목 엔티티도 캐시해야 항목별 조회가 생기지 않음
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "request-item-entity")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,33 @@
+package backend.domain;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 신청 상태 전이 로그 (append-only, 수정/삭제 없음)
+ * - INSERT 는 신청 트랜잭션 커밋 직전에 JDBC batch 로 (RequestEventOutbox)
+ * - fromStatus 가 null 이면 신청 생성
+ */
+@Entity
+@Table(name = "request_status_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RequestStatusEvent extends BaseEntity {
+
+    @Column(name = "request_id", nullable = false)
+    private Long requestId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private RequestStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private RequestStatus toStatus;
+}
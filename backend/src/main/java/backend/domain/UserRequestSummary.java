@@ -0,0 +1,58 @@
+package backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 신청 요약 (내 신청 화면용 비정규화 테이블)
+ * - 상태별 건수 + 최근 신청 N건(비품 이름/수량 포함) JSON
+ * - 신청 생성/승인/반려 트랜잭션 안에서 행 잠금 후 증분 갱신 (RequestSummaryService)
+ */
+@Entity
+@Table(name = "user_request_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserRequestSummary extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    @Column(name = "recent_requests", nullable = false, columnDefinition = "TEXT")
+    private String recentRequests;
+
+    public void created() {
+        this.pendingCount++;
+    }
+
+    // PENDING → APPROVED / REJECTED
+    public void processed(EquipmentRequest.RequestStatus status) {
+        this.pendingCount--;
+        if (status == EquipmentRequest.RequestStatus.APPROVED) {
+            this.approvedCount++;
+        } else if (status == EquipmentRequest.RequestStatus.REJECTED) {
+            this.rejectedCount++;
+        }
+    }
+
+    public void updateRecent(String recentRequests) {
+        this.recentRequests = recentRequests;
+    }
+
+    public void replace(long pendingCount, long approvedCount, long rejectedCount, String recentRequests) {
+        this.pendingCount = pendingCount;
+        this.approvedCount = approvedCount;
+        this.rejectedCount = rejectedCount;
+        this.recentRequests = recentRequests;
+    }
+}
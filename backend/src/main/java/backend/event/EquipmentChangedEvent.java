@@ -0,0 +1,7 @@
+package backend.event;
+
+/**
+ * 비품 정보 또는 재고가 바뀌었을 때 발행 (커밋 이후 캐시 무효화 등에 사용)
+ */
+public record EquipmentChangedEvent(Long equipmentId) {
+}
@@ -0,0 +1,14 @@
+package backend.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+
+/**
+ * 신청이 생성(PENDING)되거나 승인/반려되었을 때 발행 (커밋 이후 승인 대기열 갱신 등에 사용)
+ * - quantities: 비품 id → 수량 (같은 비품 여러 줄은 합산)
+ */
+public record RequestStatusChangedEvent(Long requestId, Long userId, RequestStatus status,
+                                        LocalDateTime createdAt, Map<Long, Integer> quantities) {
+}
@@ -10,7 +10,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import backend.util.JwtUtil;
+import backend.util.JwtPrincipal;
+import backend.util.JwtTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +22,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
 
     @Override
     protected void doFilterInternal(
@@ -40,28 +41,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7); // "Bearer " 제거
 
         try {
-            // 토큰 유효성 검증
-            if (jwtUtil.validateToken(token) && !jwtUtil.isTokenExpired(token)) {
-                // 토큰에서 사용자 정보 추출
-                Long userId = jwtUtil.getUserId(token);
-                String email = jwtUtil.getEmail(token);
-                String role = jwtUtil.getRole(token);
+            // 토큰 검증 (서명 검증은 캐시 miss 일 때 1회만 수행)
+            JwtPrincipal principal = jwtTokenCache.verify(token);
 
-                // Spring Security 권한 설정
-                List<SimpleGrantedAuthority> authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + role));
+            // Spring Security 권한 설정
+            List<SimpleGrantedAuthority> authorities = List.of(
+                    new SimpleGrantedAuthority("ROLE_" + principal.role()));
 
-                // Authentication 객체 생성
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userId, // principal
-                        null, // credentials
-                        authorities);
+            // Authentication 객체 생성
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    principal.userId(), // principal
+                    null, // credentials
+                    authorities);
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                // SecurityContext에 인증 정보 설정
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            // SecurityContext에 인증 정보 설정
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception e) {
             // 토큰이 유효하지 않으면 인증 없이 진행
             logger.error("JWT 토큰 검증 실패: " + e.getMessage());
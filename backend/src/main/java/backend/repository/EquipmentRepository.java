@@ -2,8 +2,12 @@ package backend.repository;
 
 import backend.domain.Equipment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
 
@@ -16,4 +20,30 @@ public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
 
     // 비품명으로 검색 = LIKE
     List<Equipment> findByNameContaining(String keyword);
+
+    // 목록 스냅샷 / 검색 색인용 프로젝션 (엔티티를 만들지 않음)
+    @Query("SELECT new backend.repository.EquipmentRow(e.id, e.name, e.description, e.category, e.imageUrl, " +
+           "e.stock, e.available, e.createdAt) FROM Equipment e ORDER BY e.id")
+    List<EquipmentRow> findAllRows();
+
+    @Query("SELECT new backend.repository.EquipmentRow(e.id, e.name, e.description, e.category, e.imageUrl, " +
+           "e.stock, e.available, e.createdAt) FROM Equipment e WHERE e.id = :id")
+    Optional<EquipmentRow> findRowById(@Param("id") Long id);
+
+    @Query("SELECT e.stock FROM Equipment e WHERE e.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
+
+    // 재고 차감을 조건부 UPDATE 한 번으로 처리 (엔티티 @Version 충돌 → 재시도 폭주 방지)
+    // 반환값 0 = 재고 부족 또는 비품 없음
+    // - 벌크 UPDATE 라 커밋 시 Equipment 2차 캐시 영역 전체가 비워짐 (승인마다)
+    //   목록/상세는 프로젝션 조회라 영향 없고, 엔티티 조회(신청 항목 → 비품)만 다음 1회 DB 로 감
+    @Modifying
+    @Query("UPDATE Equipment e SET e.stock = e.stock - :quantity, e.version = e.version + 1 " +
+           "WHERE e.id = :id AND e.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 일괄 승인에서 이미 차감한 수량을 되돌릴 때
+    @Modifying
+    @Query("UPDATE Equipment e SET e.stock = e.stock + :quantity, e.version = e.version + 1 WHERE e.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
@@ -1,40 +1,158 @@
 package backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import backend.domain.EquipmentRequest;
 import backend.domain.EquipmentRequest.RequestStatus;
+import jakarta.persistence.QueryHint;
 
 public interface EquipmentRequestRepository extends JpaRepository<EquipmentRequest, Long> {
 
     // Before(N+1)
     List<EquipmentRequest> findByUserId(Long userId);
-    // After(N+1)
-    @Query("SELECT DISTINCT r FROM EquipmentRequest r " +
-           "JOIN FETCH r.items i " +
-           "JOIN FETCH i.equipment " +
+    // After(N+1): 컬렉션 fetch join 은 행이 항목 수만큼 늘어나고 SQL 페이징이 불가능하므로 2단계로 나눠 조회
+    // 1단계: 신청 + 사용자(to-one)만 페이징 조회 → 2단계: findAllByIdInWithItems 로 items/equipment 초기화
+    @Query("SELECT r FROM EquipmentRequest r " +
            "JOIN FETCH r.user " +
-           "WHERE r.user.id = :userId")
-    List<EquipmentRequest> findByUserIdWithItems(@Param("userId") Long userId);
+           "WHERE r.user.id = :userId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<EquipmentRequest> findByUserIdWithUser(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT DISTINCT r FROM EquipmentRequest r " +
            "JOIN FETCH r.items i " +
            "JOIN FETCH i.equipment " +
-           "JOIN FETCH r.user")
-    List<EquipmentRequest> findAllWithItems();
+           "WHERE r.id = :id")
+    Optional<EquipmentRequest> findByIdWithItems(@Param("id") Long id);
 
+    // 일괄 처리 / 2단계 조회용: 여러 건의 items + equipment 를 IN 쿼리 한 번으로 조회 (오래된 신청 순)
     @Query("SELECT DISTINCT r FROM EquipmentRequest r " +
            "JOIN FETCH r.items i " +
            "JOIN FETCH i.equipment " +
-           "WHERE r.id = :id")
-    Optional<EquipmentRequest> findByIdWithItems(@Param("id") Long id);
+           "WHERE r.id IN :ids " +
+           "ORDER BY r.createdAt ASC, r.id ASC")
+    List<EquipmentRequest> findAllByIdInWithItems(@Param("ids") Collection<Long> ids);
+
+    // 사용자별 상태 건수 (요약 재계산용): [status, count]
+    @Query("SELECT r.status, COUNT(r) FROM EquipmentRequest r WHERE r.user.id = :userId GROUP BY r.status")
+    List<Object[]> countByStatusForUser(@Param("userId") Long userId);
+
+    // 전체 상태 건수 (관리자 목록 상단 통계): [status, count], (status, created_at) 인덱스만 읽음
+    @Query("SELECT r.status, COUNT(r) FROM EquipmentRequest r GROUP BY r.status")
+    List<Object[]> countByStatus();
+
+    @Query("SELECT r.id FROM EquipmentRequest r " +
+           "WHERE r.status = :status AND r.createdAt < :createdBefore " +
+           "ORDER BY r.createdAt ASC, r.id ASC")
+    List<Long> findIdsByStatusAndCreatedAtBefore(@Param("status") RequestStatus status,
+                                                 @Param("createdBefore") LocalDateTime createdBefore);
+
+    // 키셋 페이지네이션 1단계: 조건에 맞는 신청 id 만 (created_at, id) 내림차순으로 조회
+    // cursor 는 직전 페이지 마지막 행의 (createdAt, id)
+    @Query("SELECT r.id FROM EquipmentRequest r " +
+           "WHERE (:status IS NULL OR r.status = :status) " +
+           "AND (:from IS NULL OR r.createdAt >= :from) " +
+           "AND (:to IS NULL OR r.createdAt < :to) " +
+           "AND (:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt " +
+           "     OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Long> findPageIds(@Param("status") RequestStatus status,
+                           @Param("from") LocalDateTime from,
+                           @Param("to") LocalDateTime to,
+                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                           @Param("cursorId") Long cursorId,
+                           Pageable pageable);
+
+    // 목록 응답용 프로젝션: 엔티티 그래프 대신 응답에 필요한 컬럼만 RequestListRow 로 바로 생성
+    // (영속성 컨텍스트/스냅샷 없음, 비품 description 이나 사용자 password 를 읽지 않음)
+    // 모두 (created_at, id) 내림차순 + 신청 안에서는 항목 id 순
+    @Query("SELECT r.id FROM EquipmentRequest r " +
+           "WHERE r.user.id = :userId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new backend.repository.RequestListRow(r.id, u.id, u.name, r.status, r.createdAt, " +
+           "r.processedAt, r.rejectReason, i.id, e.id, e.name, i.quantity) " +
+           "FROM EquipmentRequest r " +
+           "JOIN r.user u " +
+           "LEFT JOIN r.items i " +
+           "LEFT JOIN i.equipment e " +
+           "WHERE r.user.id = :userId " +
+           "ORDER BY r.createdAt DESC, r.id DESC, i.id ASC")
+    List<RequestListRow> findListRowsByUserId(@Param("userId") Long userId);
+
+    // 키셋 페이지네이션 2단계 / 내 신청 페이지 조회 2단계
+    @Query("SELECT new backend.repository.RequestListRow(r.id, u.id, u.name, r.status, r.createdAt, " +
+           "r.processedAt, r.rejectReason, i.id, e.id, e.name, i.quantity) " +
+           "FROM EquipmentRequest r " +
+           "JOIN r.user u " +
+           "LEFT JOIN r.items i " +
+           "LEFT JOIN i.equipment e " +
+           "WHERE r.id IN :ids " +
+           "ORDER BY r.createdAt DESC, r.id DESC, i.id ASC")
+    List<RequestListRow> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 대량 내보내기용: 엔티티 대신 필요한 컬럼만 행 단위로 스트리밍 (영속성 컨텍스트에 쌓이지 않음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.id AS requestId, u.id AS userId, u.name AS userName, r.status AS status, " +
+           "r.createdAt AS createdAt, r.processedAt AS processedAt, r.rejectReason AS rejectReason, " +
+           "i.id AS itemId, e.id AS equipmentId, e.name AS equipmentName, i.quantity AS quantity " +
+           "FROM RequestItem i " +
+           "JOIN i.equipmentRequest r " +
+           "JOIN r.user u " +
+           "JOIN i.equipment e " +
+           "WHERE (:status IS NULL OR r.status = :status) " +
+           "AND (:from IS NULL OR r.createdAt >= :from) " +
+           "AND (:to IS NULL OR r.createdAt < :to) " +
+           "ORDER BY r.createdAt DESC, r.id DESC, i.id ASC")
+    Stream<RequestItemRow> streamItemRows(@Param("status") RequestStatus status,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
 
     List<EquipmentRequest> findByStatus(RequestStatus status);
 
     List<EquipmentRequest> findByStatusOrderByCreatedAtAsc(RequestStatus status);
+
+    // 승인 대기열 적재 1단계: 상태별 신청 id 를 (created_at, id) 오름차순 키셋 페이지로 조회
+    @Query("SELECT r.id FROM EquipmentRequest r " +
+           "WHERE r.status = :status " +
+           "AND (:cursorCreatedAt IS NULL OR r.createdAt > :cursorCreatedAt " +
+           "     OR (r.createdAt = :cursorCreatedAt AND r.id > :cursorId)) " +
+           "ORDER BY r.createdAt ASC, r.id ASC")
+    List<Long> findIdsByStatusAfter(@Param("status") RequestStatus status,
+                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+
+    // 승인 대기열 적재 2단계: 해당 신청들의 항목 수량만 행으로 조회
+    // 항목이 없는 신청은 equipmentId/quantity 가 null 인 1행
+    @Query("SELECT new backend.repository.PendingItemRow(r.id, r.user.id, r.createdAt, i.equipment.id, i.quantity) " +
+           "FROM EquipmentRequest r LEFT JOIN r.items i " +
+           "WHERE r.id IN :ids")
+    List<PendingItemRow> findPendingItemRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 신청 항목 1건 = 1행 (같은 신청의 행은 연속으로 나옴)
+    interface RequestItemRow {
+        Long getRequestId();
+        Long getUserId();
+        String getUserName();
+        RequestStatus getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getProcessedAt();
+        String getRejectReason();
+        Long getItemId();
+        Long getEquipmentId();
+        String getEquipmentName();
+        Integer getQuantity();
+    }
 }
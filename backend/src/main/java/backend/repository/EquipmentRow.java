@@ -0,0 +1,12 @@
+package backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비품 목록 / 검색 응답용 프로젝션
+ * - JPQL 생성자 표현식으로 바로 만들어지므로 영속성 컨텍스트에 들어가지 않음 (dirty checking 스냅샷 없음)
+ * - 응답에 없는 version 은 읽지 않음
+ */
+public record EquipmentRow(Long id, String name, String description, String category, String imageUrl,
+                           Integer stock, Boolean available, LocalDateTime createdAt) {
+}
@@ -0,0 +1,10 @@
+package backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 승인 대기열 적재용 프로젝션: 1행 = PENDING 신청의 항목 1건
+ * - 대기열에 필요한 id/시각/수량만 읽음 (신청/항목/비품 엔티티를 만들지 않음)
+ */
+public record PendingItemRow(Long requestId, Long userId, LocalDateTime createdAt, Long equipmentId, Integer quantity) {
+}
@@ -0,0 +1,20 @@
+package backend.repository;
+
+import backend.domain.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, Long> {
+
+    Optional<RefreshTokenFamily> findByFamilyId(String familyId);
+
+    // 만료 정리: 엔티티를 읽지 않고 DELETE 한 번 (expires_at 인덱스 범위 조건)
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt < :now")
+    int deleteByExpiresAtBefore(@Param("now") LocalDateTime now);
+}
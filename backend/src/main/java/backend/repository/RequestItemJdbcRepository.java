@@ -0,0 +1,35 @@
+package backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신청 항목 일괄 INSERT
+ * - RequestItem 은 IDENTITY 키라 Hibernate 가 INSERT 를 한 건씩 바로 실행함 (JDBC batch 불가)
+ * - 생성된 항목 id 가 필요 없는 신청 생성 경로에서만 JDBC batch 로 한 번에 전송
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequestItemJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO request_items (request_id, equipment_id, quantity, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(Long requestId, Map<Long, Integer> quantitiesByEquipmentId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(quantitiesByEquipmentId.size());
+        quantitiesByEquipmentId.forEach((equipmentId, quantity) ->
+                rows.add(new Object[] {requestId, equipmentId, quantity, now}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
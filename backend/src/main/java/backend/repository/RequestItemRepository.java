@@ -1,7 +1,10 @@
 package backend.repository;
 
+import backend.domain.EquipmentRequest.RequestStatus;
 import backend.domain.RequestItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,4 +13,10 @@ public interface RequestItemRepository extends JpaRepository<RequestItem, Long>
     List<RequestItem> findByEquipmentRequestId(Long requestId);
 
     List<RequestItem> findByEquipmentId(Long equipmentId);
+
+    // 특정 상태(PENDING 등) 신청에 묶여 있는 수량 합계 (없으면 null)
+    @Query("SELECT SUM(i.quantity) FROM RequestItem i " +
+           "WHERE i.equipment.id = :equipmentId AND i.equipmentRequest.status = :status")
+    Long sumQuantityByEquipmentIdAndStatus(@Param("equipmentId") Long equipmentId,
+                                           @Param("status") RequestStatus status);
 }
@@ -0,0 +1,15 @@
+package backend.repository;
+
+import java.time.LocalDateTime;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+
+/**
+ * 신청 목록 응답용 프로젝션: 1행 = 신청 항목 1건 (같은 신청의 행은 연속으로 나옴)
+ * - 사용자는 id/이름, 비품은 id/이름만 읽음 (password, description 등은 읽지 않음)
+ * - 항목이 없는 신청은 item 쪽 값이 모두 null 인 1행
+ */
+public record RequestListRow(Long requestId, Long userId, String userName, RequestStatus status,
+                             LocalDateTime createdAt, LocalDateTime processedAt, String rejectReason,
+                             Long itemId, Long equipmentId, String equipmentName, Integer quantity) {
+}
@@ -0,0 +1,38 @@
+package backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+import backend.event.RequestStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상태 전이 로그 일괄 INSERT (일괄 승인/반려 시 신청 수만큼의 INSERT 를 batch 한 번으로)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequestStatusEventJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO request_status_events (request_id, user_id, from_status, to_status, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<RequestStatusChangedEvent> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (RequestStatusChangedEvent event : events) {
+            // 생성 이벤트만 이전 상태가 없고, 승인/반려는 항상 PENDING 에서 전이
+            String from = event.status() == RequestStatus.PENDING ? null : RequestStatus.PENDING.name();
+            rows.add(new Object[] {event.requestId(), event.userId(), from, event.status().name(), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
@@ -0,0 +1,17 @@
+package backend.repository;
+
+import backend.domain.RequestStatusEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface RequestStatusEventRepository extends JpaRepository<RequestStatusEvent, Long> {
+
+    // 릴레이/SSE 재전송: 마지막으로 전달한 id 이후를 PK 범위로 조회
+    List<RequestStatusEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM RequestStatusEvent e")
+    long findMaxId();
+}
@@ -1,13 +1,31 @@
 package backend.repository;
 
 import backend.domain.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // 로그인마다 호출 → 쿼리 캐시 (users 테이블이 Hibernate 로 바뀌면 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 사용자 단위 직렬화가 필요할 때 (예: 신청 요약 행을 처음 만들 때 동시 INSERT 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
 }
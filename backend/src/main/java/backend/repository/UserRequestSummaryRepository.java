@@ -0,0 +1,20 @@
+package backend.repository;
+
+import backend.domain.UserRequestSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface UserRequestSummaryRepository extends JpaRepository<UserRequestSummary, Long> {
+
+    Optional<UserRequestSummary> findByUserId(Long userId);
+
+    // 증분 갱신용 (같은 사용자의 동시 신청/처리가 서로의 갱신을 덮어쓰지 않도록 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserRequestSummary s WHERE s.userId = :userId")
+    Optional<UserRequestSummary> findByUserIdForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,297 @@
+package backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+import backend.event.RequestStatusChangedEvent;
+import backend.repository.EquipmentRequestRepository;
+import backend.repository.PendingItemRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PENDING 신청 대기열 (메모리)
+ * - 전체 FIFO(created_at, id) 순서 + 비품별 FIFO 인덱스를 함께 유지
+ * - 시작할 때 DB 의 PENDING 신청으로 채우고, 이후에는 신청 생성/승인/반려 커밋 이벤트로만 갱신
+ *   (적재는 id/수량 프로젝션을 LOAD_PAGE_SIZE 건씩 키셋 페이지로 읽음 → 대기 건수가 많아도 엔티티를 만들지 않음)
+ * - 재고 비교는 StockReservationEngine 의 메모리 카운터로 하므로 DB 를 읽지 않음
+ * - 이벤트를 놓쳐 남은 항목은 승인 시도 결과(이미 처리됨)를 보고 remove 로 정리
+ */
+@Slf4j
+@Component
+public class ApprovalQueue implements MeterBinder {
+
+    private static final Comparator<PendingRequest> FIFO =
+            Comparator.comparing(PendingRequest::createdAt).thenComparing(PendingRequest::requestId);
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final EquipmentRequestRepository requestRepository;
+    private final StockReservationEngine stockReservationEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, PendingRequest> byId = new HashMap<>();
+    private final NavigableSet<PendingRequest> fifo = new TreeSet<>(FIFO);
+    private final Map<Long, NavigableSet<PendingRequest>> byEquipment = new HashMap<>();
+
+    public ApprovalQueue(EquipmentRequestRepository requestRepository,
+                         StockReservationEngine stockReservationEngine,
+                         TransactionTemplate transactionTemplate) {
+        this.requestRepository = requestRepository;
+        this.stockReservationEngine = stockReservationEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int loaded = 0;
+        PendingRequest last = null;
+        while (true) {
+            PendingRequest cursor = last;
+            List<PendingRequest> page = transactionTemplate.execute(status -> loadPage(cursor));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(this::add);
+            loaded += page.size();
+            last = page.get(page.size() - 1);
+        }
+        log.info("승인 대기열 로드: {}건", loaded);
+    }
+
+    // cursor 다음부터 PENDING 신청 한 페이지 (오래된 순)
+    private List<PendingRequest> loadPage(PendingRequest cursor) {
+        List<Long> ids = requestRepository.findIdsByStatusAfter(RequestStatus.PENDING,
+                cursor != null ? cursor.createdAt() : null, cursor != null ? cursor.requestId() : null,
+                PageRequest.of(0, LOAD_PAGE_SIZE));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<PendingItemRow>> rowsById = new HashMap<>();
+        for (PendingItemRow row : requestRepository.findPendingItemRowsByIdIn(ids)) {
+            rowsById.computeIfAbsent(row.requestId(), id -> new ArrayList<>()).add(row);
+        }
+        List<PendingRequest> page = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            List<PendingItemRow> rows = rowsById.get(id);
+            if (rows != null) {
+                page.add(toPending(rows));
+            }
+        }
+        return page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(RequestStatusChangedEvent event) {
+        if (event.status() == RequestStatus.PENDING) {
+            add(new PendingRequest(event.requestId(), event.userId(), event.createdAt(), event.quantities()));
+        } else {
+            remove(event.requestId());
+        }
+    }
+
+    public void add(PendingRequest request) {
+        lock.lock();
+        try {
+            if (byId.putIfAbsent(request.requestId(), request) != null) {
+                return;
+            }
+            fifo.add(request);
+            for (Long equipmentId : request.quantities().keySet()) {
+                byEquipment.computeIfAbsent(equipmentId, id -> new TreeSet<>(FIFO)).add(request);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long requestId) {
+        lock.lock();
+        try {
+            PendingRequest request = byId.remove(requestId);
+            if (request == null) {
+                return;
+            }
+            fifo.remove(request);
+            for (Long equipmentId : request.quantities().keySet()) {
+                NavigableSet<PendingRequest> queue = byEquipment.get(equipmentId);
+                if (queue != null) {
+                    queue.remove(request);
+                    if (queue.isEmpty()) {
+                        byEquipment.remove(equipmentId);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 수동 승인 전 확인: 대기열에 없는 신청(이미 처리됨, 로드 전 등)은 DB 에서 판단하도록 통과
+    public void checkFulfillable(Long requestId) {
+        PendingRequest request;
+        lock.lock();
+        try {
+            request = byId.get(requestId);
+        } finally {
+            lock.unlock();
+        }
+        if (request == null) {
+            return;
+        }
+        request.quantities().forEach((equipmentId, quantity) -> {
+            if (stockReservationEngine.getStock(equipmentId) < quantity) {
+                throw new IllegalStateException("재고가 부족합니다.");
+            }
+        });
+    }
+
+    /**
+     * 자동 승인 대상 선택 (오래된 순, 최대 limit 건)
+     * - 비품별로 FIFO: 앞선 신청이 재고 부족으로 막히면 그 비품이 필요한 뒤 신청도 이번 회차에는 건너뜀 (작은 신청의 새치기 방지)
+     * - 정책상 수동 처리 대상인 신청도 앞 순서의 재고 몫은 차지한 것으로 계산
+     */
+    public Selection select(AutoApprovalPolicy policy, LocalDateTime now, int limit) {
+        List<PendingRequest> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(fifo);
+        } finally {
+            lock.unlock();
+        }
+
+        Map<Long, Integer> remaining = new HashMap<>();
+        Set<Long> blocked = new HashSet<>();
+        List<PendingRequest> selected = new ArrayList<>();
+        int held = 0;
+        for (PendingRequest request : snapshot) {
+            if (selected.size() >= limit) {
+                break;
+            }
+            Map<Long, Integer> quantities = request.quantities();
+            if (quantities.keySet().stream().anyMatch(blocked::contains)) {
+                held++;
+                continue;
+            }
+            quantities.keySet().forEach(id -> remaining.computeIfAbsent(id, stockReservationEngine::getStock));
+            boolean enough = quantities.entrySet().stream()
+                    .allMatch(e -> remaining.get(e.getKey()) >= e.getValue());
+            if (!enough) {
+                blocked.addAll(quantities.keySet());
+                held++;
+                continue;
+            }
+            quantities.forEach((equipmentId, quantity) -> remaining.merge(equipmentId, -quantity, Integer::sum));
+            if (policy.allows(request, now)) {
+                selected.add(request);
+            }
+        }
+        return new Selection(selected, held);
+    }
+
+    public QueueView view() {
+        lock.lock();
+        try {
+            List<EquipmentDepth> equipment = new ArrayList<>(byEquipment.size());
+            byEquipment.forEach((equipmentId, queue) -> {
+                int quantity = queue.stream().mapToInt(r -> r.quantities().get(equipmentId)).sum();
+                equipment.add(new EquipmentDepth(equipmentId, queue.size(), quantity, queue.first().createdAt()));
+            });
+            equipment.sort(Comparator.comparingInt(EquipmentDepth::depth).reversed());
+            return new QueueView(byId.size(), fifo.isEmpty() ? null : fifo.first().createdAt(), equipment);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int equipmentCount() {
+        lock.lock();
+        try {
+            return byEquipment.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("approval.queue.depth", this, ApprovalQueue::size)
+                .description("승인 대기 중인 신청 수")
+                .register(registry);
+        Gauge.builder("approval.queue.equipment", this, ApprovalQueue::equipmentCount)
+                .description("대기 신청이 있는 비품 수")
+                .register(registry);
+    }
+
+    private static PendingRequest toPending(List<PendingItemRow> rows) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (PendingItemRow row : rows) {
+            if (row.equipmentId() != null) {
+                quantities.merge(row.equipmentId(), row.quantity(), Integer::sum);
+            }
+        }
+        PendingItemRow first = rows.get(0);
+        return new PendingRequest(first.requestId(), first.userId(), first.createdAt(), Map.copyOf(quantities));
+    }
+
+    public record PendingRequest(Long requestId, Long userId, LocalDateTime createdAt, Map<Long, Integer> quantities) {
+    }
+
+    // requests: 승인할 신청 (오래된 순), held: 재고 부족(또는 앞 신청에 막혀) 이번 회차에 건너뛴 건수
+    public record Selection(List<PendingRequest> requests, int held) {
+
+        public List<Long> requestIds() {
+            return requests.stream().map(PendingRequest::requestId).toList();
+        }
+    }
+
+    public record EquipmentDepth(Long equipmentId, int depth, int quantity, LocalDateTime oldestCreatedAt) {
+    }
+
+    public record QueueView(int depth, LocalDateTime oldestCreatedAt, List<EquipmentDepth> equipment) {
+    }
+
+    /**
+     * 자동 승인 정책 (approval.auto.*)
+     * - maxQuantity: 비품 한 종류당 수량 상한, maxItems: 비품 종류 수 상한
+     * - minAge: 생성 후 이 시간이 지나야 자동 승인 (관리자가 먼저 반려할 여유)
+     */
+    public record AutoApprovalPolicy(int maxQuantity, int maxItems, Duration minAge) {
+
+        boolean allows(PendingRequest request, LocalDateTime now) {
+            return request.quantities().size() <= maxItems
+                    && request.quantities().values().stream().allMatch(q -> q <= maxQuantity)
+                    && !request.createdAt().plus(minAge).isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package backend.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import backend.service.ApprovalQueue.QueueView;
+import backend.service.ApprovalScheduler.SchedulerView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 승인 대기열 현황 (/actuator/approvals)
+ * - queue: 전체/비품별 대기 건수와 가장 오래된 신청 시각
+ * - scheduler: 자동 승인 설정, 누적 처리 건수, 분당 승인 건수
+ */
+@Component
+@Endpoint(id = "approvals")
+@RequiredArgsConstructor
+public class ApprovalQueueEndpoint {
+
+    private final ApprovalQueue approvalQueue;
+    private final ApprovalScheduler approvalScheduler;
+
+    @ReadOperation
+    public ApprovalsView approvals() {
+        return new ApprovalsView(approvalQueue.view(), approvalScheduler.view());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ApprovalsView {
+        private QueueView queue;
+        private SchedulerView scheduler;
+    }
+}
@@ -0,0 +1,157 @@
+package backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import backend.service.ApprovalQueue.AutoApprovalPolicy;
+import backend.service.ApprovalQueue.PendingRequest;
+import backend.service.ApprovalQueue.Selection;
+import backend.service.EquipmentRequestService.BatchResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동 승인 스케줄러 (approval.auto.enabled=true 일 때만 동작, 기본 off)
+ * - interval-ms 마다 대기열에서 정책에 맞고 재고로 처리 가능한 신청을 오래된 순으로 batch-size 건 골라 approveAll 한 번으로 승인
+ * - 재고가 모자란 신청은 DB 조회 없이 대기열에 남겨 두고 다음 회차에 다시 판단
+ * - 승인이 실패하면(메모리 카운터와 DB 재고가 어긋남) 관련 비품 카운터를 무효화 → 다음 회차는 DB 기준으로 다시 만든 카운터로 선택
+ * - 단일 인스턴스 배포 기준 (여러 인스턴스에서 켜면 같은 신청을 동시에 고를 수 있음)
+ * - 지표: approval.auto.approved / failed / skipped, approval.auto.batch (실행 시간), approval.auto.held (직전 회차 보류 건수)
+ */
+@Slf4j
+@Component
+public class ApprovalScheduler implements MeterBinder {
+
+    private final ApprovalQueue approvalQueue;
+    private final EquipmentRequestService requestService;
+    private final StockReservationEngine stockReservationEngine;
+    private final boolean enabled;
+    private final int batchSize;
+    private final AutoApprovalPolicy policy;
+
+    private final AtomicLong approved = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicInteger held = new AtomicInteger();
+    private final long startedAt = System.nanoTime();
+    private volatile LocalDateTime lastRunAt;
+
+    private Timer batchTimer;
+
+    public ApprovalScheduler(
+            ApprovalQueue approvalQueue,
+            EquipmentRequestService requestService,
+            StockReservationEngine stockReservationEngine,
+            @Value("${approval.auto.enabled:false}") boolean enabled,
+            @Value("${approval.auto.batch-size:50}") int batchSize,
+            @Value("${approval.auto.max-quantity:2}") int maxQuantity,
+            @Value("${approval.auto.max-items:3}") int maxItems,
+            @Value("${approval.auto.min-age:0s}") Duration minAge) {
+        this.approvalQueue = approvalQueue;
+        this.requestService = requestService;
+        this.stockReservationEngine = stockReservationEngine;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.policy = new AutoApprovalPolicy(maxQuantity, maxItems, minAge);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        batchTimer = Timer.builder("approval.auto.batch").register(registry);
+        FunctionCounter.builder("approval.auto.approved", approved, AtomicLong::get).register(registry);
+        FunctionCounter.builder("approval.auto.failed", failed, AtomicLong::get).register(registry);
+        FunctionCounter.builder("approval.auto.skipped", skipped, AtomicLong::get).register(registry);
+        Gauge.builder("approval.auto.held", held, AtomicInteger::get).register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${approval.auto.interval-ms:5000}",
+            initialDelayString = "${approval.auto.interval-ms:5000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        lastRunAt = LocalDateTime.now();
+        Selection selection = approvalQueue.select(policy, lastRunAt, batchSize);
+        held.set(selection.held());
+        if (selection.requestIds().isEmpty()) {
+            return;
+        }
+
+        Map<Long, PendingRequest> selected = new HashMap<>();
+        selection.requests().forEach(request -> selected.put(request.requestId(), request));
+        Set<Long> stale = new HashSet<>();
+
+        long started = System.nanoTime();
+        try {
+            List<BatchResult> results = requestService.approveAll(selection.requestIds());
+            for (BatchResult result : results) {
+                switch (result.getOutcome()) {
+                    case SUCCESS -> approved.incrementAndGet();
+                    case FAILED -> {
+                        failed.incrementAndGet();
+                        PendingRequest request = selected.get(result.getRequestId());
+                        if (request != null) {
+                            stale.addAll(request.quantities().keySet());
+                        }
+                    }
+                    case SKIPPED -> {
+                        // 이미 처리된 신청 (이벤트를 놓친 경우) → 대기열에서 정리
+                        skipped.incrementAndGet();
+                        approvalQueue.remove(result.getRequestId());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // 배치 전체가 롤백됨 → 선택한 신청의 비품 카운터를 모두 다시 만들고 다음 회차에 재선택
+            failed.addAndGet(selected.size());
+            selected.values().forEach(request -> stale.addAll(request.quantities().keySet()));
+            log.warn("자동 승인 실패 ({}건): {}", selected.size(), e.getMessage());
+        } finally {
+            stale.forEach(stockReservationEngine::invalidate);
+            batches.incrementAndGet();
+            if (batchTimer != null) {
+                batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public SchedulerView view() {
+        double uptimeMinutes = Math.max(1.0 / 60, (System.nanoTime() - startedAt) / 60_000_000_000.0);
+        return new SchedulerView(enabled, batchSize, policy, lastRunAt, batches.get(),
+                approved.get(), failed.get(), skipped.get(), held.get(), approved.get() / uptimeMinutes);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SchedulerView {
+        private boolean enabled;
+        private int batchSize;
+        private AutoApprovalPolicy policy;
+        private LocalDateTime lastRunAt;
+        private long batches;
+        private long approved;
+        private long failed;
+        private long skipped;
+        private int held;
+        private double approvedPerMinute; // 시작 이후 평균
+    }
+}
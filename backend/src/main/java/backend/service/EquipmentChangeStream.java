@@ -0,0 +1,61 @@
+package backend.service;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.domain.Equipment;
+import backend.event.EquipmentChangedEvent;
+import backend.repository.EquipmentRepository;
+import backend.service.SseHub.Message;
+
+/**
+ * 비품 변경 푸시 (재고 증감, 수정, 삭제 커밋 후 → 카탈로그를 구독 중인 모든 연결)
+ * - 변경 1건당 PK 조회 1번으로 바뀐 값만 보냄 (연결 수와 무관, 구독자가 없으면 조회도 안 함)
+ * - 조회는 새 트랜잭션에서 (커밋 직후에는 원래 영속성 컨텍스트가 아직 묶여 있어서, 벌크 UPDATE 로 바뀐 재고가 반영 안 된 엔티티를 돌려줄 수 있음)
+ */
+@Component
+public class EquipmentChangeStream {
+
+    static final String EVENT_NAME = "equipment";
+
+    private final EquipmentRepository equipmentRepository;
+    private final SseHub sseHub;
+    private final TransactionTemplate transactionTemplate;
+
+    public EquipmentChangeStream(EquipmentRepository equipmentRepository, SseHub sseHub,
+                                 TransactionTemplate transactionTemplate) {
+        this.equipmentRepository = equipmentRepository;
+        this.sseHub = sseHub;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Order(200) // 캐시 무효화/스냅샷 갱신 이후
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEquipmentChanged(EquipmentChangedEvent event) {
+        if (!sseHub.hasAny(SseHub.Client::catalog)) {
+            return;
+        }
+        EquipmentDelta delta = transactionTemplate.execute(status -> equipmentRepository.findById(event.equipmentId())
+                .map(EquipmentDelta::of)
+                .orElseGet(() -> EquipmentDelta.deleted(event.equipmentId())));
+        sseHub.publish(SseHub.Client::catalog, new Message(null, EVENT_NAME, delta));
+    }
+
+    public record EquipmentDelta(Long id, String name, String category, Integer stock, Boolean available,
+                                 boolean deleted) {
+
+        static EquipmentDelta of(Equipment equipment) {
+            return new EquipmentDelta(equipment.getId(), equipment.getName(), equipment.getCategory(),
+                    equipment.getStock(), equipment.getAvailable(), false);
+        }
+
+        static EquipmentDelta deleted(Long id) {
+            return new EquipmentDelta(id, null, null, null, null, true);
+        }
+    }
+}
@@ -1,7 +1,22 @@
 package backend.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,8 +24,13 @@ import backend.domain.Equipment;
 import backend.domain.EquipmentRequest;
 import backend.domain.RequestItem;
 import backend.domain.User;
+import backend.event.EquipmentChangedEvent;
+import backend.event.RequestStatusChangedEvent;
 import backend.repository.EquipmentRepository;
 import backend.repository.EquipmentRequestRepository;
+import backend.repository.EquipmentRequestRepository.RequestItemRow;
+import backend.repository.RequestItemJdbcRepository;
+import backend.repository.RequestListRow;
 import backend.repository.UserRepository;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,42 +41,120 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class EquipmentRequestService {
 
+    // 2단계 조회 시 IN 절 하나에 넣는 최대 id 수
+    private static final int FETCH_CHUNK_SIZE = 500;
+
     private final EquipmentRequestRepository requestRepository;
     private final UserRepository userRepository;
     private final EquipmentRepository equipmentRepository;
+    private final RequestItemJdbcRepository requestItemJdbcRepository;
+    private final StockReservationEngine stockReservationEngine;
+    private final RequestSummaryService requestSummaryService;
+    private final ApprovalQueue approvalQueue;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 신청 생성
+     * - 비품은 findAllById 한 번으로 조회, 같은 비품 여러 줄은 수량을 합쳐 한 항목으로
+     * - 존재/신청 가능 여부를 모두 확인한 뒤 재고 예약
+     * - 신청 1건 INSERT + 항목은 JDBC batch INSERT 1번
+     */
     @Transactional
     public Long createRequest(Long userId, List<RequestItemDto> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("신청할 비품이 없습니다.");
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (RequestItemDto itemDto : items) {
+            if (itemDto.getEquipmentId() == null || itemDto.getQuantity() == null || itemDto.getQuantity() <= 0) {
+                throw new IllegalArgumentException("신청 수량이 올바르지 않습니다.");
+            }
+            quantities.merge(itemDto.getEquipmentId(), itemDto.getQuantity(), Integer::sum);
+        }
+
+        Map<Long, Equipment> equipmentById = equipmentRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
+        for (Long equipmentId : quantities.keySet()) {
+            Equipment equipment = equipmentById.get(equipmentId);
+            if (equipment == null) {
+                throw new IllegalArgumentException("비품을 찾을 수 없습니다.");
+            }
+            if (!Boolean.TRUE.equals(equipment.getAvailable())) {
+                throw new IllegalStateException("신청할 수 없는 비품입니다.");
+            }
+        }
+
+        // 신청 시점에 재고 예약 (부족하면 여기서 바로 실패, 롤백 시 자동 반환)
+        quantities.forEach(stockReservationEngine::reserve);
+
         EquipmentRequest request = EquipmentRequest.builder()
                 .user(user)
                 .status(EquipmentRequest.RequestStatus.PENDING)
                 .build();
+        EquipmentRequest saved = requestRepository.save(request);
+        requestItemJdbcRepository.batchInsert(saved.getId(), quantities);
+        requestSummaryService.recordCreated(saved, quantities, equipmentById);
+        eventPublisher.publishEvent(new RequestStatusChangedEvent(saved.getId(), userId,
+                saved.getStatus(), saved.getCreatedAt(), Map.copyOf(quantities)));
+        return saved.getId();
+    }
 
-        for (RequestItemDto itemDto : items) {
-            Equipment equipment = equipmentRepository.findById(itemDto.getEquipmentId())
-                    .orElseThrow(() -> new IllegalArgumentException("비품을 찾을 수 없습니다."));
-
-            RequestItem item = RequestItem.builder()
-                    .equipment(equipment)
-                    .quantity(itemDto.getQuantity())
-                    .build();
+    public List<RequestListRow> findMyRequests(Long userId) {
+        return findMyRequests(userId, Pageable.unpaged());
+    }
 
-            request.addItem(item);
+    // 목록 조회는 엔티티 대신 응답에 필요한 컬럼만 행으로 조회 (신청 1건 = 항목 수만큼 연속된 행)
+    public List<RequestListRow> findMyRequests(Long userId, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return requestRepository.findListRowsByUserId(userId);
+        }
+        // 항목 행 단위로는 신청 단위 SQL 페이징이 안 되므로 신청 id 페이지를 먼저 구함
+        List<Long> ids = requestRepository.findIdsByUserId(userId, pageable);
+        List<RequestListRow> rows = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += FETCH_CHUNK_SIZE) {
+            rows.addAll(requestRepository.findListRowsByIdIn(ids.subList(from, Math.min(from + FETCH_CHUNK_SIZE, ids.size()))));
         }
+        return rows;
+    }
 
-        EquipmentRequest saved = requestRepository.save(request);
-        return saved.getId();
+    // 관리자 목록 통계: 목록은 페이지 단위로만 읽으므로 건수는 따로 집계
+    public Map<EquipmentRequest.RequestStatus, Long> countByStatus() {
+        Map<EquipmentRequest.RequestStatus, Long> counts = new EnumMap<>(EquipmentRequest.RequestStatus.class);
+        for (EquipmentRequest.RequestStatus status : EquipmentRequest.RequestStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : requestRepository.countByStatus()) {
+            counts.put((EquipmentRequest.RequestStatus) row[0], (Long) row[1]);
+        }
+        return counts;
     }
 
-    public List<EquipmentRequest> findMyRequests(Long userId) {
-        return requestRepository.findByUserIdWithItems(userId);
+    /**
+     * 키셋 페이지 조회: id 페이지를 먼저 구한 뒤 해당 id 들만 fetch join
+     * size + 1 건을 조회해서 다음 페이지 존재 여부를 판단
+     */
+    public RequestPage findPage(EquipmentRequest.RequestStatus status, LocalDateTime from, LocalDateTime to,
+                                LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        List<Long> ids = requestRepository.findPageIds(status, from, to, cursorCreatedAt, cursorId,
+                PageRequest.of(0, size + 1));
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+        List<RequestListRow> content = ids.isEmpty() ? List.of() : requestRepository.findListRowsByIdIn(ids);
+        return new RequestPage(content, hasNext);
     }
 
-    public List<EquipmentRequest> findAll() {
-        return requestRepository.findAllWithItems();
+    // 대량 내보내기: 행 단위로 흘려보내므로 메모리 사용량이 건수와 무관
+    public void exportItemRows(EquipmentRequest.RequestStatus status, LocalDateTime from, LocalDateTime to,
+                               Consumer<RequestItemRow> consumer) {
+        try (Stream<RequestItemRow> rows = requestRepository.streamItemRows(status, from, to)) {
+            rows.forEach(consumer);
+        }
     }
 
     public List<EquipmentRequest> findByStatus(EquipmentRequest.RequestStatus status) {
@@ -65,23 +163,246 @@ public class EquipmentRequestService {
 
     @Transactional
     public void approve(Long requestId) {
+        // 대기열에 있는 신청은 메모리 재고로 먼저 확인 (부족하면 fetch join / UPDATE 전에 실패)
+        approvalQueue.checkFulfillable(requestId);
+
         // N+1 최적화: Fetch Join 사용 (items와 equipment를 함께 조회)
         EquipmentRequest request = requestRepository.findByIdWithItems(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("신청을 찾을 수 없습니다."));
 
         request.approve();
 
-        for (RequestItem item : request.getItems()) {
-            item.getEquipment().decreaseStock(item.getQuantity());
-        }
+        // 엔티티 dirty checking 대신 조건부 UPDATE 로 차감 (@Version 충돌로 인한 롤백 방지)
+        // 비품 id 순으로 잠금 (일괄 승인과 같은 순서 → 서로 반대 순서로 행을 잠가 교착되지 않음)
+        quantitiesByEquipment(request).forEach((equipmentId, quantity) -> {
+            if (equipmentRepository.decreaseStock(equipmentId, quantity) == 0) {
+                throw new IllegalStateException("재고가 부족합니다.");
+            }
+            stockReservationEngine.confirm(equipmentId, quantity);
+            eventPublisher.publishEvent(new EquipmentChangedEvent(equipmentId));
+        });
+        requestSummaryService.recordProcessed(List.of(request));
+        publishStatusChanged(request);
     }
 
     @Transactional
     public void reject(Long requestId, String reason) {
-        EquipmentRequest request = requestRepository.findById(requestId)
+        EquipmentRequest request = requestRepository.findByIdWithItems(requestId)
                 .orElseThrow(() -> new IllegalArgumentException("신청을 찾을 수 없습니다."));
 
         request.reject(reason);
+
+        // 예약해 둔 재고 반환
+        for (RequestItem item : request.getItems()) {
+            stockReservationEngine.release(item.getEquipment().getId(), item.getQuantity());
+        }
+        requestSummaryService.recordProcessed(List.of(request));
+        publishStatusChanged(request);
+    }
+
+    /**
+     * 일괄 승인
+     * - 신청/항목/비품을 IN 쿼리로 조회하고(FETCH_CHUNK_SIZE 단위), 오래된 신청부터 남은 재고로 승인 가능 여부를 판단
+     * - 재고 차감은 비품별 합계로 UPDATE 한 번씩 (비품 id 순), 신청 상태 변경은 JDBC batch 로 flush
+     * - 차감이 실패한 비품(조회 이후 재고 변경)이 있어도 전체를 롤백하지 않고 그 비품의 신청만 FAILED
+     */
+    @Transactional
+    public List<BatchResult> approveAll(List<Long> requestIds) {
+        Map<Long, EquipmentRequest> requests = loadForBatch(requestIds);
+
+        // 비품별 남은 재고 (조회 시점 기준)
+        Map<Long, Integer> remaining = new HashMap<>();
+        for (EquipmentRequest request : requests.values()) {
+            for (RequestItem item : request.getItems()) {
+                remaining.putIfAbsent(item.getEquipment().getId(), item.getEquipment().getStock());
+            }
+        }
+
+        // 승인 예정 신청 (오래된 순) → 비품별 수량, 합계는 비품 id 순 (차감 UPDATE 잠금 순서 = 단건 승인과 같음)
+        Map<Long, BatchResult> results = new HashMap<>();
+        Map<Long, Integer> totals = new TreeMap<>();
+        Map<EquipmentRequest, Map<Long, Integer>> planned = new LinkedHashMap<>();
+        for (EquipmentRequest request : requests.values()) {
+            if (request.getStatus() != EquipmentRequest.RequestStatus.PENDING) {
+                results.put(request.getId(), BatchResult.skipped(request.getId(), "이미 처리된 신청입니다."));
+                continue;
+            }
+
+            Map<Long, Integer> needed = quantitiesByEquipment(request);
+            boolean enough = needed.entrySet().stream()
+                    .allMatch(e -> remaining.get(e.getKey()) >= e.getValue());
+            if (!enough) {
+                results.put(request.getId(), BatchResult.failed(request.getId(), "재고가 부족합니다."));
+                continue;
+            }
+
+            needed.forEach((equipmentId, quantity) -> {
+                remaining.merge(equipmentId, -quantity, Integer::sum);
+                totals.merge(equipmentId, quantity, Integer::sum);
+            });
+            planned.put(request, needed);
+        }
+
+        // 비품별 합계로 한 번씩 차감
+        // 조회 이후 다른 트랜잭션이 재고를 줄였다면(0건 갱신) 그 비품만 현재 재고로 다시 나눠 못 받는 신청만 FAILED
+        Map<Long, Integer> applied = new HashMap<>();
+        for (Long equipmentId : List.copyOf(totals.keySet())) {
+            int total = totals.get(equipmentId);
+            if (total > 0 && equipmentRepository.decreaseStock(equipmentId, total) == 0) {
+                int stock = equipmentRepository.findStockById(equipmentId).orElse(0);
+                withdrawOverflow(equipmentId, stock, planned, totals, applied, results);
+                total = totals.get(equipmentId);
+                // 다시 읽은 뒤에도 또 바뀌었으면 이 비품이 걸린 신청은 모두 실패
+                if (total > 0 && equipmentRepository.decreaseStock(equipmentId, total) == 0) {
+                    withdrawOverflow(equipmentId, 0, planned, totals, applied, results);
+                    total = 0;
+                }
+            }
+            applied.put(equipmentId, total);
+        }
+        applied.forEach((equipmentId, total) -> {
+            if (total > 0) {
+                stockReservationEngine.confirm(equipmentId, total);
+                eventPublisher.publishEvent(new EquipmentChangedEvent(equipmentId));
+            }
+        });
+
+        List<EquipmentRequest> approved = new ArrayList<>(planned.keySet());
+        for (EquipmentRequest request : approved) {
+            request.approve();
+            results.put(request.getId(), BatchResult.success(request.getId()));
+        }
+        requestSummaryService.recordProcessed(approved);
+        approved.forEach(this::publishStatusChanged);
+
+        return toOrderedResults(requestIds, results);
+    }
+
+    @Transactional
+    public List<BatchResult> rejectAll(List<Long> requestIds, String reason) {
+        Map<Long, EquipmentRequest> requests = loadForBatch(requestIds);
+
+        Map<Long, BatchResult> results = new HashMap<>();
+        List<EquipmentRequest> rejected = new ArrayList<>();
+        for (EquipmentRequest request : requests.values()) {
+            if (request.getStatus() != EquipmentRequest.RequestStatus.PENDING) {
+                results.put(request.getId(), BatchResult.skipped(request.getId(), "이미 처리된 신청입니다."));
+                continue;
+            }
+            request.reject(reason);
+            quantitiesByEquipment(request).forEach(stockReservationEngine::release);
+            rejected.add(request);
+            results.put(request.getId(), BatchResult.success(request.getId()));
+        }
+        requestSummaryService.recordProcessed(rejected);
+        rejected.forEach(this::publishStatusChanged);
+
+        return toOrderedResults(requestIds, results);
+    }
+
+    // 필터 기반 일괄 처리 대상 (예: PENDING + 특정 시각 이전)
+    public List<Long> findIdsByStatusCreatedBefore(EquipmentRequest.RequestStatus status, LocalDateTime createdBefore) {
+        return requestRepository.findIdsByStatusAndCreatedAtBefore(status, createdBefore);
+    }
+
+    /**
+     * 비품 하나의 현재 재고(stock)에 맞춰 승인 예정 신청을 다시 나눔 (오래된 순으로 채우고 넘치는 신청은 제외)
+     * - 제외한 신청의 다른 비품 수량은 합계에서 빼고, 이미 차감한 비품이면 DB 에도 되돌림
+     */
+    private void withdrawOverflow(Long equipmentId, int stock, Map<EquipmentRequest, Map<Long, Integer>> planned,
+                                  Map<Long, Integer> totals, Map<Long, Integer> applied,
+                                  Map<Long, BatchResult> results) {
+        int left = stock;
+        for (EquipmentRequest request : List.copyOf(planned.keySet())) {
+            Map<Long, Integer> needed = planned.get(request);
+            Integer quantity = needed.get(equipmentId);
+            if (quantity == null) {
+                continue;
+            }
+            if (quantity <= left) {
+                left -= quantity;
+                continue;
+            }
+            planned.remove(request);
+            results.put(request.getId(), BatchResult.failed(request.getId(), "재고가 부족합니다."));
+            needed.forEach((id, q) -> {
+                totals.merge(id, -q, Integer::sum);
+                if (applied.containsKey(id)) {
+                    equipmentRepository.increaseStock(id, q);
+                    applied.merge(id, -q, Integer::sum);
+                }
+            });
+        }
+    }
+
+    // IN 목록은 FETCH_CHUNK_SIZE 단위로 나눠 조회 (필터 대상이 수만 건이어도 쿼리 하나가 커지지 않도록)
+    private Map<Long, EquipmentRequest> loadForBatch(List<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+        List<EquipmentRequest> loaded = new ArrayList<>(requestIds.size());
+        for (int from = 0; from < requestIds.size(); from += FETCH_CHUNK_SIZE) {
+            loaded.addAll(requestRepository.findAllByIdInWithItems(
+                    requestIds.subList(from, Math.min(from + FETCH_CHUNK_SIZE, requestIds.size()))));
+        }
+        // 조각마다 정렬돼 있으므로 합친 뒤 다시 오래된 순으로
+        loaded.sort(Comparator.comparing(EquipmentRequest::getCreatedAt).thenComparing(EquipmentRequest::getId));
+        return loaded.stream()
+                .collect(Collectors.toMap(EquipmentRequest::getId, Function.identity(),
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    // 비품 id 순 (재고 차감 시 행 잠금 순서)
+    private Map<Long, Integer> quantitiesByEquipment(EquipmentRequest request) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (RequestItem item : request.getItems()) {
+            quantities.merge(item.getEquipment().getId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private void publishStatusChanged(EquipmentRequest request) {
+        eventPublisher.publishEvent(new RequestStatusChangedEvent(request.getId(), request.getUser().getId(),
+                request.getStatus(), request.getCreatedAt(), quantitiesByEquipment(request)));
+    }
+
+    private List<BatchResult> toOrderedResults(List<Long> requestIds, Map<Long, BatchResult> results) {
+        List<BatchResult> ordered = new ArrayList<>(requestIds.size());
+        for (Long id : requestIds) {
+            ordered.add(results.getOrDefault(id, BatchResult.failed(id, "신청을 찾을 수 없습니다.")));
+        }
+        return ordered;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RequestPage {
+        private List<RequestListRow> content; // 신청 단위로 연속된 항목 행
+        private boolean hasNext;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BatchResult {
+        private Long requestId;
+        private Outcome outcome;
+        private String message;
+
+        public enum Outcome {
+            SUCCESS, SKIPPED, FAILED
+        }
+
+        static BatchResult success(Long requestId) {
+            return new BatchResult(requestId, Outcome.SUCCESS, null);
+        }
+
+        static BatchResult skipped(Long requestId, String message) {
+            return new BatchResult(requestId, Outcome.SKIPPED, message);
+        }
+
+        static BatchResult failed(Long requestId, String message) {
+            return new BatchResult(requestId, Outcome.FAILED, message);
+        }
     }
 
     @Getter
@@ -0,0 +1,196 @@
+package backend.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import backend.event.EquipmentChangedEvent;
+import backend.repository.EquipmentRepository;
+import backend.repository.EquipmentRow;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비품 검색용 메모리 역색인 (LIKE '%keyword%' 풀스캔 대체)
+ * - 이름/카테고리/설명을 글자 단위 bigram 으로 색인 → 한글, 영문, 숫자 구분 없이 부분/접두어 검색
+ * - 검색어 bigram 중 일정 비율 이상만 맞아도 결과에 포함 (오타 허용), 필드 가중치 합으로 정렬
+ * - 시작 시 전체 색인 후, EquipmentChangedEvent 마다 해당 비품만 다시 색인
+ */
+@Component
+@RequiredArgsConstructor
+public class EquipmentSearchIndex {
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float CATEGORY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float EXACT_NAME_BONUS = 10f;
+    private static final double MIN_MATCH_RATIO = 0.6; // 검색어 bigram 3개 이상일 때 적용
+
+    private final EquipmentRepository equipmentRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<EquipmentRow> all = equipmentRepository.findAllRows();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            all.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEquipmentChanged(EquipmentChangedEvent event) {
+        // 프로젝션 쿼리는 항상 DB 에서 읽으므로 커밋 직후에도 (영속성 컨텍스트에 남은) 옛 값을 색인하지 않음
+        EquipmentRow equipment = equipmentRepository.findRowById(event.equipmentId()).orElse(null);
+        lock.writeLock().lock();
+        try {
+            remove(event.equipmentId());
+            if (equipment != null) {
+                add(equipment);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<EquipmentRow> search(String keyword, int limit) {
+        String normalized = normalize(keyword);
+        Set<String> queryGrams = grams(normalized);
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int minMatches = queryGrams.size() < 3
+                ? queryGrams.size()
+                : (int) Math.ceil(queryGrams.size() * MIN_MATCH_RATIO);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, float[]> scores = new HashMap<>(); // [0] = 점수, [1] = 일치한 bigram 수
+            for (String gram : queryGrams) {
+                Map<Long, Float> docs = postings.get(gram);
+                if (docs == null) {
+                    continue;
+                }
+                docs.forEach((id, weight) -> {
+                    float[] score = scores.computeIfAbsent(id, k -> new float[2]);
+                    score[0] += weight;
+                    score[1] += 1;
+                });
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            scores.forEach((id, score) -> {
+                if (score[1] < minMatches) {
+                    return;
+                }
+                Document document = documents.get(id);
+                float total = score[0];
+                if (document.normalizedName().contains(normalized)) {
+                    total += EXACT_NAME_BONUS;
+                }
+                hits.add(new Hit(document.equipment(), total));
+            });
+
+            return hits.stream()
+                    .sorted(Comparator.comparingDouble(Hit::score).reversed()
+                            .thenComparing(hit -> hit.equipment().id()))
+                    .limit(limit)
+                    .map(Hit::equipment)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서만 호출
+    private void add(EquipmentRow equipment) {
+        Map<String, Float> weights = new HashMap<>();
+        String name = normalize(equipment.name());
+        accumulate(weights, name, NAME_WEIGHT);
+        accumulate(weights, normalize(equipment.category()), CATEGORY_WEIGHT);
+        accumulate(weights, normalize(equipment.description()), DESCRIPTION_WEIGHT);
+
+        documents.put(equipment.id(), new Document(equipment, name, weights.keySet()));
+        weights.forEach((gram, weight) ->
+                postings.computeIfAbsent(gram, k -> new HashMap<>()).put(equipment.id(), weight));
+    }
+
+    // 쓰기 락을 잡은 상태에서만 호출
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            Map<Long, Float> docs = postings.get(gram);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void accumulate(Map<String, Float> weights, String text, float weight) {
+        for (String gram : grams(text)) {
+            weights.merge(gram, weight, Float::sum);
+        }
+    }
+
+    // NFKC + 소문자 (전각 영숫자, 호환 한글 자모 정리)
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 공백/기호로 나눈 단어마다 글자 bigram, 한 글자 단어는 그대로
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && !Character.isLetterOrDigit(normalized.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(normalized.charAt(end))) {
+                end++;
+            }
+            if (end - start == 1) {
+                grams.add(normalized.substring(start, end));
+            }
+            for (int i = start; i + 2 <= end; i++) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+            start = end;
+        }
+        return grams;
+    }
+
+    private record Document(EquipmentRow equipment, String normalizedName, Set<String> grams) {
+    }
+
+    private record Hit(EquipmentRow equipment, float score) {
+    }
+}
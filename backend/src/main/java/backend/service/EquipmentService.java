@@ -1,15 +1,22 @@
 package backend.service;
 
 import backend.domain.Equipment;
+import backend.event.EquipmentChangedEvent;
 import backend.repository.EquipmentRepository;
+import backend.repository.EquipmentRow;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -17,9 +24,17 @@ public class EquipmentService {
 
     private final EquipmentRepository equipmentRepository;
     private final S3Service s3Service;
-
-    public List<Equipment> findAll() {
-        return equipmentRepository.findAll();
+    private final ImageDerivativeService imageDerivativeService;
+    private final StockReservationEngine stockReservationEngine;
+    private final EquipmentSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 목록 스냅샷용: 엔티티 대신 프로젝션
+    // 목록은 EquipmentCatalogSnapshot 이 직렬화된 채로 들고 있으므로 여기서는 캐시하지 않음 (항상 DB 조회)
+    // 단건은 Hibernate 2차 캐시가 담당
+    public List<EquipmentRow> findAll() {
+        return equipmentRepository.findAllRows();
     }
 
     public Equipment findById(Long id) {
@@ -35,79 +50,128 @@ public class EquipmentService {
         return equipmentRepository.findByAvailableTrue();
     }
 
-    public List<Equipment> search(String keyword) {
-        return equipmentRepository.findByNameContaining(keyword);
+    // LIKE '%keyword%' 대신 메모리 역색인으로 검색 (관련도 순, 최대 limit 건)
+    public List<EquipmentRow> search(String keyword, int limit) {
+        return searchIndex.search(keyword, limit);
     }
 
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 먼저 수행 (업로드 동안 DB 커넥션을 잡고 있지 않도록)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long create(String name, String description, String category,
                        MultipartFile imageFile, Integer stock, Boolean available) {
         // 이미지 파일이 있으면 S3에 업로드
-        String imageUrl = null;
-        if (imageFile != null && !imageFile.isEmpty()) {
-            try {
-                imageUrl = s3Service.uploadFile(imageFile);
-            } catch (IOException e) {
-                throw new RuntimeException("이미지 업로드에 실패했습니다.", e);
-            }
+        String imageUrl = uploadImage(imageFile);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Equipment equipment = Equipment.builder()
+                        .name(name)
+                        .description(description)
+                        .category(category)
+                        .imageUrl(imageUrl)
+                        .stock(stock)
+                        .available(available)
+                        .build();
+
+                Equipment saved = equipmentRepository.save(equipment);
+                eventPublisher.publishEvent(new EquipmentChangedEvent(saved.getId()));
+                return saved.getId();
+            });
+        } catch (RuntimeException e) {
+            // DB 저장이 실패하면 방금 올린 이미지 정리
+            deleteImageQuietly(imageUrl);
+            throw e;
         }
-
-        Equipment equipment = Equipment.builder()
-                .name(name)
-                .description(description)
-                .category(category)
-                .imageUrl(imageUrl)
-                .stock(stock)
-                .available(available)
-                .build();
-
-        Equipment saved = equipmentRepository.save(equipment);
-        return saved.getId();
     }
 
     @Transactional
     public void decreaseStock(Long equipmentId, int quantity) {
         Equipment equipment = findById(equipmentId);
         equipment.decreaseStock(quantity);
+        stockReservationEngine.invalidate(equipmentId);
+        eventPublisher.publishEvent(new EquipmentChangedEvent(equipmentId));
     }
 
     @Transactional
     public void increaseStock(Long equipmentId, int quantity) {
         Equipment equipment = findById(equipmentId);
         equipment.increaseStock(quantity);
+        stockReservationEngine.invalidate(equipmentId);
+        eventPublisher.publishEvent(new EquipmentChangedEvent(equipmentId));
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void update(Long id, String name, String description, String category,
                        MultipartFile imageFile, Integer stock, Boolean available) {
-        Equipment equipment = findById(id);
+        if (!equipmentRepository.existsById(id)) {
+            throw new IllegalArgumentException("비품을 찾을 수 없습니다.");
+        }
 
-        // 이미지 파일이 있으면 기존 이미지 삭제 후 새 이미지 업로드
-        String imageUrl = equipment.getImageUrl(); // 기존 URL 유지
-        if (imageFile != null && !imageFile.isEmpty()) {
-            try {
-                // 기존 이미지가 있으면 삭제
-                if (equipment.getImageUrl() != null && !equipment.getImageUrl().isEmpty()) {
-                    try {
-                        s3Service.deleteFile(equipment.getImageUrl());
-                    } catch (Exception e) {
-                        // 삭제 실패해도 계속 진행 (로그만 출력)
-                        System.err.println("기존 이미지 삭제 실패: " + e.getMessage());
-                    }
-                }
-                // 새 이미지 업로드
-                imageUrl = s3Service.uploadFile(imageFile);
-            } catch (IOException e) {
-                throw new RuntimeException("이미지 업로드에 실패했습니다.", e);
-            }
+        // 새 이미지가 있으면 트랜잭션 밖에서 먼저 업로드
+        String newImageUrl = uploadImage(imageFile);
+
+        String previousImageUrl;
+        try {
+            previousImageUrl = transactionTemplate.execute(status -> {
+                Equipment equipment = findById(id);
+                String previous = equipment.getImageUrl();
+                String imageUrl = newImageUrl != null ? newImageUrl : previous; // 없으면 기존 URL 유지
+
+                equipment.update(name, description, category, imageUrl, stock, available);
+                stockReservationEngine.invalidate(id);
+                eventPublisher.publishEvent(new EquipmentChangedEvent(id));
+                return previous;
+            });
+        } catch (RuntimeException e) {
+            deleteImageQuietly(newImageUrl);
+            throw e;
         }
 
-        equipment.update(name, description, category, imageUrl, stock, available);
+        // 커밋이 끝난 뒤 기존 이미지 삭제
+        if (newImageUrl != null) {
+            deleteImageQuietly(previousImageUrl);
+        }
     }
 
     @Transactional
     public void delete(Long id) {
         Equipment equipment = findById(id);
         equipmentRepository.delete(equipment);
+        stockReservationEngine.invalidate(id);
+        eventPublisher.publishEvent(new EquipmentChangedEvent(id));
+    }
+
+    private String uploadImage(MultipartFile imageFile) {
+        if (imageFile == null || imageFile.isEmpty()) {
+            return null;
+        }
+        String imageUrl;
+        try {
+            imageUrl = s3Service.uploadFile(imageFile);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 업로드에 실패했습니다.", e);
+        }
+
+        // 썸네일/카드/상세 파생본 생성 (실패하면 원본도 정리)
+        try {
+            imageDerivativeService.generate(imageUrl, imageFile);
+        } catch (RuntimeException e) {
+            deleteImageQuietly(imageUrl);
+            throw e;
+        }
+        return imageUrl;
+    }
+
+    // 삭제 실패해도 계속 진행 (로그만 출력)
+    private void deleteImageQuietly(String imageUrl) {
+        if (!s3Service.isManagedUrl(imageUrl)) {
+            return;
+        }
+        imageDerivativeService.deleteQuietly(imageUrl);
+        try {
+            s3Service.deleteFile(imageUrl);
+        } catch (Exception e) {
+            log.warn("이미지 삭제 실패: {}", imageUrl, e);
+        }
     }
 }
@@ -0,0 +1,290 @@
+package backend.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비품 이미지 파생본 (썸네일/카드/상세) 생성 및 조회
+ * - 업로드 시 원본을 한 번만 디코딩해서 크기별로 줄이고 JPEG 로 다시 압축
+ * - 저장 key 는 원본 key 에서 결정됨: derivatives/{원본 파일명(확장자 제외)}/{variant}.jpg
+ * - 디코딩 전에 헤더의 가로/세로만 읽어서 max-pixels 를 넘으면 거절 (압축률 높은 초대형 이미지로 힙 고갈 방지)
+ * - 인코딩은 크기가 제한된 작업 풀에서 수행 (큐가 가득 차면 요청 스레드에서 처리하지 않고 503 + Retry-After)
+ * - 요청 스레드는 render-timeout-ms 까지만 기다림 (넘으면 작업을 취소하고 503 + Retry-After)
+ * - 조회는 로컬 디스크 캐시 → S3 순서
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final Pattern IMAGE_ID = Pattern.compile("[0-9a-fA-F-]{36}");
+    private static final String BUSY_MESSAGE = "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    public enum Variant {
+        THUMBNAIL(200), CARD(480), DETAIL(1024);
+
+        private final int maxWidth;
+
+        Variant(int maxWidth) {
+            this.maxWidth = maxWidth;
+        }
+
+        public String path() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Optional<Variant> fromPath(String path) {
+            return Arrays.stream(values()).filter(v -> v.path().equals(path)).findFirst();
+        }
+    }
+
+    private final S3Service s3Service;
+    private final ImageDiskCache diskCache;
+    private final String publicBaseUrl;
+    private final long maxPixels;
+    private final Duration renderTimeout;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(
+            S3Service s3Service,
+            ImageDiskCache diskCache,
+            @Value("${image.public-base-url:}") String publicBaseUrl,
+            @Value("${image.workers:2}") int workers,
+            @Value("${image.queue-capacity:16}") int queueCapacity,
+            @Value("${image.max-pixels:25000000}") long maxPixels,
+            @Value("${image.render-timeout-ms:10000}") long renderTimeoutMs) {
+        this.s3Service = s3Service;
+        this.diskCache = diskCache;
+        this.publicBaseUrl = publicBaseUrl.replaceAll("/+$", "");
+        this.maxPixels = maxPixels;
+        this.renderTimeout = Duration.ofMillis(renderTimeoutMs);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 업로드된 원본(imageUrl)에 대한 파생본 생성
+     * - 디코딩할 수 없는 형식 / 깨진 파일이면 400, 해상도가 max-pixels 를 넘으면 413
+     * - 작업 풀이 가득 차거나 render-timeout-ms 안에 끝나지 않으면 503 + Retry-After
+     * - 예외가 나면 호출한 쪽(EquipmentService)이 이미 올린 원본을 정리
+     */
+    public void generate(String imageUrl, MultipartFile file) {
+        String imageId = imageIdOf(imageUrl);
+        if (imageId == null) {
+            return;
+        }
+
+        Future<Map<Variant, byte[]>> future;
+        try {
+            future = executor.submit(() -> render(file));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException(HttpStatus.SERVICE_UNAVAILABLE, BUSY_MESSAGE, renderTimeout);
+        }
+
+        Map<Variant, byte[]> derivatives;
+        try {
+            derivatives = future.get(renderTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 워커를 인터럽트해서 풀 자리를 돌려받음 (ImageIO 가 인터럽트를 무시해도 요청 스레드는 더 기다리지 않음)
+            future.cancel(true);
+            log.warn("이미지 처리 시간 초과: {} ({}ms)", imageUrl, renderTimeout.toMillis());
+            throw new ServiceBusyException(HttpStatus.SERVICE_UNAVAILABLE, BUSY_MESSAGE, renderTimeout);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ResponseStatusException rejected) {
+                throw rejected;
+            }
+            throw new IllegalStateException("이미지 처리에 실패했습니다.", e.getCause());
+        }
+
+        derivatives.forEach((variant, bytes) -> {
+            String key = keyOf(imageId, variant);
+            s3Service.putObject(key, bytes, CONTENT_TYPE);
+            diskCache.put(key, bytes);
+        });
+    }
+
+    public Optional<byte[]> find(String imageId, Variant variant) {
+        if (!IMAGE_ID.matcher(imageId).matches()) {
+            return Optional.empty();
+        }
+        String key = keyOf(imageId, variant);
+        Optional<byte[]> cached = diskCache.get(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<byte[]> stored = s3Service.getObject(key);
+        stored.ifPresent(bytes -> diskCache.put(key, bytes));
+        return stored;
+    }
+
+    // 삭제 실패해도 계속 진행 (로그만 출력)
+    public void deleteQuietly(String imageUrl) {
+        String imageId = imageIdOf(imageUrl);
+        if (imageId == null) {
+            return;
+        }
+        for (Variant variant : Variant.values()) {
+            String key = keyOf(imageId, variant);
+            diskCache.remove(key);
+            try {
+                s3Service.deleteObject(key);
+            } catch (Exception e) {
+                log.warn("이미지 파생본 삭제 실패: {}", key, e);
+            }
+        }
+    }
+
+    /**
+     * 응답에 내려줄 파생본 URL
+     * - 우리 버킷에 올린 이미지가 아니면 (시드 데이터의 외부 URL 등) 원본 URL 을 그대로 사용
+     */
+    public String urlOf(String imageUrl, Variant variant) {
+        String imageId = imageIdOf(imageUrl);
+        if (imageId == null) {
+            return imageUrl;
+        }
+        return publicBaseUrl + "/api/equipment/images/" + imageId + "/" + variant.path();
+    }
+
+    // 원본 key (UUID + 확장자) 에서 UUID 부분
+    private String imageIdOf(String imageUrl) {
+        String key = s3Service.keyOf(imageUrl);
+        if (key == null) {
+            return null;
+        }
+        int dot = key.lastIndexOf('.');
+        String imageId = dot >= 0 ? key.substring(0, dot) : key;
+        return IMAGE_ID.matcher(imageId).matches() ? imageId : null;
+    }
+
+    private static String keyOf(String imageId, Variant variant) {
+        return "derivatives/" + imageId + "/" + variant.path() + ".jpg";
+    }
+
+    private Map<Variant, byte[]> render(MultipartFile file) throws IOException {
+        BufferedImage source = decode(file);
+        Map<Variant, byte[]> result = new EnumMap<>(Variant.class);
+        for (Variant variant : Variant.values()) {
+            result.put(variant, encode(resize(source, variant.maxWidth)));
+        }
+        return result;
+    }
+
+    // 헤더에서 가로/세로만 먼저 읽고, 허용 범위일 때만 픽셀 디코딩
+    private BufferedImage decode(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = readPixels(reader);
+                if (pixels > maxPixels) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 해상도가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } catch (IOException | IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일을 읽을 수 없습니다.");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static long readPixels(ImageReader reader) throws IOException {
+        return (long) reader.getWidth(0) * reader.getHeight(0);
+    }
+
+    // 축소만 함 (원본보다 크게 늘리지 않음), 알파 채널은 흰 배경으로 합성
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
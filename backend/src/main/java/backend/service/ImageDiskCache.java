@@ -0,0 +1,142 @@
+package backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 파생본 로컬 디스크 캐시 (전체 용량 기준 LRU)
+ * - 파일 I/O 는 락 밖에서, 락은 LRU 순서/용량 계산에만 사용
+ * - 재시작 시 이 캐시가 만든 파일(*.img, tmp-*.part)만 지우고 시작 (인덱스와 파일 상태를 맞추기 위해)
+ *   설정한 디렉터리에 다른 파일이 있어도 건드리지 않음
+ */
+@Slf4j
+@Component
+public class ImageDiskCache {
+
+    private static final String SUFFIX = ".img";
+    private static final String TEMP_PREFIX = "tmp-";
+    private static final String TEMP_SUFFIX = ".part";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true); // key → 파일 크기
+    private long totalBytes;
+
+    public ImageDiskCache(
+            @Value("${image.cache.dir:${java.io.tmpdir}/equip-image-cache}") String directory,
+            @Value("${image.cache.max-bytes:268435456}") long maxBytes) throws IOException {
+        this.directory = Path.of(directory);
+        this.maxBytes = maxBytes;
+        Files.createDirectories(this.directory);
+        try (Stream<Path> files = Files.list(this.directory)) {
+            files.filter(ImageDiskCache::isOwnFile).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    public Optional<byte[]> get(String key) {
+        lock.lock();
+        try {
+            if (entries.get(key) == null) { // get 으로 LRU 순서 갱신
+                return Optional.empty();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            return Optional.of(Files.readAllBytes(pathOf(key)));
+        } catch (NoSuchFileException e) {
+            remove(key);
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void put(String key, byte[] bytes) {
+        if (bytes.length > maxBytes) {
+            return;
+        }
+        Path target = pathOf(key);
+        try {
+            Path temp = Files.createTempFile(directory, TEMP_PREFIX, TEMP_SUFFIX);
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("이미지 캐시 저장 실패: {}", key, e);
+            return;
+        }
+
+        List<String> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            Long previous = entries.put(key, (long) bytes.length);
+            totalBytes += bytes.length - (previous != null ? previous : 0);
+
+            Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(this::deleteFile);
+    }
+
+    public void remove(String key) {
+        lock.lock();
+        try {
+            Long size = entries.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        } finally {
+            lock.unlock();
+        }
+        deleteFile(key);
+    }
+
+    private void deleteFile(String key) {
+        try {
+            Files.deleteIfExists(pathOf(key));
+        } catch (IOException e) {
+            log.warn("이미지 캐시 파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    // S3 key 의 '/' 를 파일명에 쓸 수 있게 치환 (key 는 서버가 만든 값만 들어옴)
+    private Path pathOf(String key) {
+        return directory.resolve(key.replace('/', '_') + SUFFIX);
+    }
+
+    private static boolean isOwnFile(Path file) {
+        String name = file.getFileName().toString();
+        return Files.isRegularFile(file)
+                && (name.endsWith(SUFFIX) || (name.startsWith(TEMP_PREFIX) && name.endsWith(TEMP_SUFFIX)));
+    }
+}
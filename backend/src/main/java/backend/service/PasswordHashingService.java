@@ -0,0 +1,137 @@
+package backend.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 작업 풀
+ * - BCrypt 는 일부러 느린 CPU 작업이므로 요청 스레드가 아닌 CPU 코어 수만큼의 스레드에서만 실행
+ * - 대기열이 가득 차거나 timeout-ms 안에 끝나지 않으면 503 + Retry-After 로 거절 (로그인 폭주가 다른 API 처리 스레드를 잡아먹지 않도록)
+ *   클라이언트 한도 초과(429)가 아니라 서버 과부하이므로 다른 백프레셔 경로(S3 업로드, SSE, 이미지)와 같은 응답
+ * - 지표: password.hash (실행 시간), password.hash.wait (대기 시간), password.hash.queue, password.hash.rejected
+ */
+@Service
+public class PasswordHashingService implements MeterBinder {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Duration retryAfter;
+
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Timer waitTimer;
+    private Counter rejected;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.password.threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.timeout-ms:5000}") long timeoutMs,
+            @Value("${security.password.retry-after-ms:1000}") long retryAfterMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.retryAfter = Duration.ofMillis(retryAfterMs);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(registry);
+        matchesTimer = Timer.builder("password.hash").tag("operation", "matches").register(registry);
+        waitTimer = Timer.builder("password.hash.wait").register(registry);
+        rejected = Counter.builder("password.hash.rejected").register(registry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // 설정된 cost 와 저장된 해시의 cost 가 다르면 true (로그인 성공 시 다시 해시)
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task, Timer timer) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                record(waitTimer, started - queuedAt);
+                try {
+                    return task.call();
+                } finally {
+                    record(timer, System.nanoTime() - started);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new ServiceBusyException(HttpStatus.SERVICE_UNAVAILABLE, BUSY_MESSAGE, retryAfter);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException(HttpStatus.SERVICE_UNAVAILABLE, BUSY_MESSAGE, retryAfter);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+    }
+
+    // MeterRegistry 바인딩 전(테스트 등)에도 동작하도록
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
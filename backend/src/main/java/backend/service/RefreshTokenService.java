@@ -0,0 +1,266 @@
+package backend.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.domain.RefreshTokenFamily;
+import backend.domain.User;
+import backend.repository.RefreshTokenFamilyRepository;
+import backend.util.JwtUtil;
+import backend.util.RefreshTokenClaims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 회전 저장소
+ * - family 별 현재 토큰 id 만 메모리에 보관 → 갱신은 HMAC 서명/검증만으로 끝남 (DB, BCrypt 없음)
+ * - 이미 회전된(이전) 토큰이 다시 오면 탈취로 보고 family 전체를 폐기
+ * - DB 저장은 단일 스레드에서 비동기로 반영, 메모리에 없으면 (재시작/정리 후) DB 에서 복원
+ *   저장 작업은 실행 시점의 메모리 값을 씀 → 회전/폐기가 엇갈려 큐에 들어가도 DB 에는 항상 최신 상태가 남음
+ * - DB 에 아직 반영되지 않은 family 는 메모리에서 정리하지 않음 (정리 후 DB 의 옛 값을 복원하면 회전/폐기가 사라짐)
+ * - 만료된 family 는 매일 DB 에서 삭제 (폐기된 family 는 폐기 시점을 만료 시각으로 저장하므로 함께 삭제됨)
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenFamilyRepository familyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSize;
+
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+    private final Map<String, Integer> pendingWrites = new ConcurrentHashMap<>(); // familyId → DB 에 반영 대기 중인 저장 수
+    private final ThreadPoolExecutor persistExecutor;
+
+    public RefreshTokenService(
+            JwtUtil jwtUtil,
+            RefreshTokenFamilyRepository familyRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${jwt.refresh.cache.max-size:100000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.familyRepository = familyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSize = maxSize;
+        // 큐가 가득 차면 자리가 날 때까지 호출 스레드가 대기 (호출 스레드에서 직접 저장하면 저장 스레드와 동시에 써서
+        // 같은 family 를 두 번 INSERT 하거나 순서가 뒤바뀜)
+        this.persistExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(10_000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "refresh-token-persist");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("리프레시 토큰 저장 스레드가 종료되었습니다");
+                    }
+                    try {
+                        executor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("리프레시 토큰 저장 대기 중 인터럽트", e);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        persistExecutor.shutdown();
+        persistExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // 로그인 시 새 family 시작
+    public String issue(User user) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        Family family = new Family(user.getId(), user.getEmail(), user.getRole().name(), tokenId, false, newExpiry());
+
+        if (families.size() >= maxSize) {
+            evict();
+        }
+        markPending(familyId);
+        families.put(familyId, family);
+        persist(familyId);
+        return jwtUtil.generateRefreshToken(user.getId(), familyId, tokenId);
+    }
+
+    /**
+     * 리프레시 토큰 회전: 새 액세스 토큰 + 새 리프레시 토큰 발급
+     * - 위조/만료/폐기된 토큰이거나 재사용이 감지되면 empty
+     */
+    public Optional<TokenPair> rotate(String refreshToken) {
+        RefreshTokenClaims claims;
+        try {
+            claims = jwtUtil.parseRefreshToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        String familyId = claims.familyId();
+        if (familyId == null || claims.tokenId() == null || load(familyId) == null) {
+            return Optional.empty();
+        }
+
+        String newTokenId = UUID.randomUUID().toString();
+        Instant expiresAt = newExpiry();
+        Outcome[] outcome = new Outcome[1];
+        Family updated = families.computeIfPresent(familyId, (id, current) -> {
+            if (current.revoked()) {
+                outcome[0] = Outcome.INVALID;
+                return current;
+            }
+            // 저장 대기 표시는 compute 안에서 (evict 가 같은 key 의 compute 로 판단하므로 그 사이에 정리되지 않음)
+            markPending(id);
+            if (!current.currentTokenId().equals(claims.tokenId())) {
+                outcome[0] = Outcome.REUSED;
+                return current.revoke();
+            }
+            outcome[0] = Outcome.ROTATED;
+            return current.rotate(newTokenId, expiresAt);
+        });
+        if (updated == null || outcome[0] == Outcome.INVALID) {
+            return Optional.empty();
+        }
+
+        persist(familyId);
+        if (outcome[0] == Outcome.REUSED) {
+            log.warn("리프레시 토큰 재사용 감지 - family 폐기: userId={}, familyId={}", updated.userId(), familyId);
+            return Optional.empty();
+        }
+
+        return Optional.of(new TokenPair(
+                jwtUtil.generateAccessToken(updated.userId(), updated.email(), updated.role()),
+                jwtUtil.generateRefreshToken(updated.userId(), familyId, newTokenId)));
+    }
+
+    // 메모리 → DB 순서로 조회 (DB 에서 읽은 값은 메모리에 다시 올림)
+    private Family load(String familyId) {
+        Family family = families.get(familyId);
+        if (family != null) {
+            return family;
+        }
+        return familyRepository.findByFamilyId(familyId)
+                .map(entity -> families.computeIfAbsent(familyId, id -> Family.from(entity)))
+                .orElse(null);
+    }
+
+    // 저장 시점의 메모리 값을 씀 (대기 중인 family 는 정리되지 않으므로 항상 있음)
+    private void persist(String familyId) {
+        try {
+            persistExecutor.execute(() -> write(familyId));
+        } catch (RejectedExecutionException e) {
+            // 대기 표시를 남겨 두어 메모리에서 정리되지 않게 함
+            log.error("리프레시 토큰 저장 요청 실패: familyId={}", familyId, e);
+        }
+    }
+
+    private void write(String familyId) {
+        try {
+            Family family = families.get(familyId);
+            if (family != null) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    LocalDateTime expiresAt = LocalDateTime.ofInstant(family.expiresAt(), ZONE);
+                    familyRepository.findByFamilyId(familyId).ifPresentOrElse(
+                            entity -> entity.sync(family.currentTokenId(), family.revoked(), expiresAt),
+                            () -> familyRepository.save(RefreshTokenFamily.builder()
+                                    .familyId(familyId)
+                                    .userId(family.userId())
+                                    .email(family.email())
+                                    .role(family.role())
+                                    .currentTokenId(family.currentTokenId())
+                                    .revoked(family.revoked())
+                                    .expiresAt(expiresAt)
+                                    .build()));
+                });
+            }
+            pendingWrites.computeIfPresent(familyId, (id, count) -> count > 1 ? count - 1 : null);
+        } catch (Exception e) {
+            // 대기 표시를 남겨 두어 메모리에서 정리되지 않게 함 (메모리 값이 유일한 최신 상태)
+            log.error("리프레시 토큰 저장 실패: familyId={}", familyId, e);
+        }
+    }
+
+    private void markPending(String familyId) {
+        pendingWrites.merge(familyId, 1, Integer::sum);
+    }
+
+    // 만료(또는 폐기)된 family 삭제
+    @Scheduled(cron = "${jwt.refresh.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        int deleted = transactionTemplate.execute(status ->
+                familyRepository.deleteByExpiresAtBefore(LocalDateTime.now(ZONE)));
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 family 삭제: {}건", deleted);
+        }
+    }
+
+    // 만료/폐기된 family 부터 정리, 그래도 가득 차 있으면 10% 를 비움 (DB 에 남아 있으므로 필요하면 다시 로드)
+    // 저장 대기 중인 family 는 건너뜀 (판단과 삭제를 같은 key 의 compute 안에서 해서 rotate 와 엇갈리지 않게 함)
+    private void evict() {
+        Instant now = Instant.now();
+        for (String familyId : families.keySet()) {
+            families.computeIfPresent(familyId, (id, family) ->
+                    !pendingWrites.containsKey(id) && (family.revoked() || !family.expiresAt().isAfter(now))
+                            ? null : family);
+        }
+
+        Iterator<String> iterator = families.keySet().iterator();
+        int target = maxSize - Math.max(1, maxSize / 10);
+        while (families.size() > target && iterator.hasNext()) {
+            families.computeIfPresent(iterator.next(), (id, family) -> pendingWrites.containsKey(id) ? family : null);
+        }
+    }
+
+    private Instant newExpiry() {
+        return Instant.now().plusMillis(jwtUtil.getRefreshTokenExpiration());
+    }
+
+    private enum Outcome {
+        ROTATED, REUSED, INVALID
+    }
+
+    private record Family(Long userId, String email, String role, String currentTokenId, boolean revoked,
+                          Instant expiresAt) {
+
+        static Family from(RefreshTokenFamily entity) {
+            return new Family(entity.getUserId(), entity.getEmail(), entity.getRole(), entity.getCurrentTokenId(),
+                    entity.isRevoked(), entity.getExpiresAt().atZone(ZONE).toInstant());
+        }
+
+        Family rotate(String tokenId, Instant expiresAt) {
+            return new Family(userId, email, role, tokenId, false, expiresAt);
+        }
+
+        // 폐기 시점을 만료 시각으로 (DB 정리 대상이 되도록, 이후 요청은 revoked 로 거절)
+        Family revoke() {
+            return new Family(userId, email, role, currentTokenId, true, Instant.now());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TokenPair {
+        private String accessToken;
+        private String refreshToken;
+    }
+}
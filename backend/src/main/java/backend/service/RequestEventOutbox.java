@@ -0,0 +1,56 @@
+package backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import backend.event.RequestStatusChangedEvent;
+import backend.repository.RequestStatusEventJdbcRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상태 전이를 같은 트랜잭션 안에서 request_status_events 에 기록 (outbox)
+ * - 트랜잭션마다 이벤트를 모았다가 커밋 직전에 JDBC batch 한 번으로 INSERT → 신청 변경과 함께 커밋/롤백
+ * - 전달은 RequestEventRelay 가 테이블을 읽어서 처리 (커밋된 것만 전달됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestEventOutbox {
+
+    private final RequestStatusEventJdbcRepository eventJdbcRepository;
+
+    @EventListener
+    public void append(RequestStatusChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventJdbcRepository.batchInsert(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<RequestStatusChangedEvent> buffer = (List<RequestStatusChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = bindBuffer();
+        }
+        buffer.add(event);
+    }
+
+    private List<RequestStatusChangedEvent> bindBuffer() {
+        List<RequestStatusChangedEvent> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                eventJdbcRepository.batchInsert(buffer);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RequestEventOutbox.this);
+            }
+        });
+        return buffer;
+    }
+}
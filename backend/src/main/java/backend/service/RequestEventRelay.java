@@ -0,0 +1,123 @@
+package backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+import backend.domain.RequestStatusEvent;
+import backend.repository.RequestStatusEventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox(request_status_events) → 구독자 전달
+ * - interval-ms 마다 마지막 전달 id 이후를 PK 범위로 batch-size 건씩 읽어서 모든 RequestEventSubscriber 에 전달
+ * - 시작 시점의 최대 id 부터 전달 (메모리 구독자는 시작할 때 DB 기준으로 상태를 다시 만듦, SSE 는 Last-Event-ID 로 재전송)
+ * - id 가 비어 있으면 먼저 발급받은 트랜잭션이 아직 커밋 전일 수 있으므로 gap-timeout-ms 동안 그 앞에서 멈춤
+ *   (시간이 지나도 안 채워지면 롤백된 INSERT 로 보고 넘어감)
+ */
+@Slf4j
+@Component
+public class RequestEventRelay implements MeterBinder {
+
+    private final RequestStatusEventRepository eventRepository;
+    private final ObjectProvider<RequestEventSubscriber> subscribers;
+    private final int batchSize;
+    private final long gapTimeoutMs;
+
+    private final AtomicLong lastId = new AtomicLong(-1); // -1: 시작 전
+    private final AtomicLong delivered = new AtomicLong();
+    private long gapSince; // 릴레이 스레드에서만 접근
+
+    public RequestEventRelay(
+            RequestStatusEventRepository eventRepository,
+            ObjectProvider<RequestEventSubscriber> subscribers,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.gap-timeout-ms:2000}") long gapTimeoutMs) {
+        this.eventRepository = eventRepository;
+        this.subscribers = subscribers;
+        this.batchSize = batchSize;
+        this.gapTimeoutMs = gapTimeoutMs;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("outbox.relay.delivered", delivered, AtomicLong::get).register(registry);
+        Gauge.builder("outbox.relay.last-id", lastId, AtomicLong::get).register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lastId.set(eventRepository.findMaxId());
+    }
+
+    // 이 id 까지는 구독자에게 전달됨 (SSE 재전송 범위 계산용)
+    public long getLastDeliveredId() {
+        return lastId.get();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        long cursor = lastId.get();
+        if (cursor < 0) {
+            return;
+        }
+        List<RequestStatusEvent> rows = eventRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long expected = cursor + 1;
+        List<RequestEventMessage> events = new ArrayList<>(rows.size());
+        for (RequestStatusEvent row : rows) {
+            if (row.getId() != expected) {
+                if (gapSince == 0) {
+                    gapSince = now;
+                }
+                if (now - gapSince < gapTimeoutMs) {
+                    break;
+                }
+            }
+            gapSince = 0;
+            events.add(RequestEventMessage.from(row));
+            expected = row.getId() + 1;
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        lastId.set(events.get(events.size() - 1).id());
+        for (RequestEventSubscriber subscriber : subscribers.orderedStream().toList()) {
+            try {
+                subscriber.onEvents(events);
+            } catch (RuntimeException e) {
+                // 한 구독자의 실패가 다른 구독자 전달을 막지 않도록
+                log.warn("상태 전이 이벤트 전달 실패 ({}): {}", subscriber.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        delivered.addAndGet(events.size());
+    }
+
+    public record RequestEventMessage(long id, Long requestId, Long userId, RequestStatus fromStatus,
+                                      RequestStatus toStatus, LocalDateTime createdAt) {
+
+        static RequestEventMessage from(RequestStatusEvent row) {
+            return new RequestEventMessage(row.getId(), row.getRequestId(), row.getUserId(),
+                    row.getFromStatus(), row.getToStatus(), row.getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package backend.service;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import backend.repository.RequestStatusEventRepository;
+import backend.service.RequestEventRelay.RequestEventMessage;
+import backend.service.SseHub.Message;
+
+/**
+ * 신청 상태 전이 푸시 (릴레이 → SseHub)
+ * - 관리자 연결은 모든 전이, 일반 연결은 본인 신청의 전이만 받음 (SSE id = 이벤트 id)
+ * - 관리자 전용 스트림(GET /api/requests/admin/events)은 재연결 시 Last-Event-ID 이후 ~ 릴레이가 전달한 지점까지를
+ *   DB 에서 먼저 보내고 실시간 전송에 합류
+ *   연결을 먼저 등록한 뒤 전달 지점을 읽으므로 그 사이 전달된 이벤트도 놓치지 않고, 겹치는 id 는 SseHub 가 한 번만 보냄
+ */
+@Component
+public class RequestEventStream implements RequestEventSubscriber {
+
+    static final String EVENT_NAME = "request-status";
+
+    private final RequestStatusEventRepository eventRepository;
+    private final RequestEventRelay relay;
+    private final SseHub sseHub;
+    private final int replayLimit;
+
+    public RequestEventStream(
+            RequestStatusEventRepository eventRepository,
+            RequestEventRelay relay,
+            SseHub sseHub,
+            @Value("${outbox.sse.replay-limit:1000}") int replayLimit) {
+        this.eventRepository = eventRepository;
+        this.relay = relay;
+        this.sseHub = sseHub;
+        this.replayLimit = replayLimit;
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        if (lastEventId == null) {
+            return sseHub.connect(null, true, false, List.of());
+        }
+        return sseHub.connect(null, true, false, () -> missedSince(lastEventId));
+    }
+
+    // 아직 릴레이가 전달하지 않은 이벤트(until 이후)는 곧 실시간으로 오므로 제외
+    private List<Message> missedSince(long lastEventId) {
+        long until = relay.getLastDeliveredId();
+        return eventRepository.findByIdGreaterThanOrderByIdAsc(lastEventId, PageRequest.of(0, replayLimit)).stream()
+                .map(RequestEventMessage::from)
+                .filter(event -> event.id() <= until)
+                .map(RequestEventStream::toMessage)
+                .toList();
+    }
+
+    @Override
+    public void onEvents(List<RequestEventMessage> events) {
+        for (RequestEventMessage event : events) {
+            sseHub.publish(client -> client.admin() || Objects.equals(client.userId(), event.userId()),
+                    toMessage(event));
+        }
+    }
+
+    private static Message toMessage(RequestEventMessage event) {
+        return new Message(String.valueOf(event.id()), EVENT_NAME, event);
+    }
+}
@@ -0,0 +1,14 @@
+package backend.service;
+
+import java.util.List;
+
+import backend.service.RequestEventRelay.RequestEventMessage;
+
+/**
+ * 커밋된 상태 전이를 id 순서대로 묶음 단위로 받는 구독자 (RequestEventRelay 가 호출)
+ * - 릴레이 스레드에서 호출되므로 오래 걸리는 작업은 직접 넘겨서 처리할 것
+ */
+public interface RequestEventSubscriber {
+
+    void onEvents(List<RequestEventMessage> events);
+}
@@ -0,0 +1,219 @@
+package backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import backend.domain.Equipment;
+import backend.domain.EquipmentRequest;
+import backend.domain.EquipmentRequest.RequestStatus;
+import backend.domain.RequestItem;
+import backend.domain.UserRequestSummary;
+import backend.repository.EquipmentRequestRepository;
+import backend.repository.UserRepository;
+import backend.repository.UserRequestSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 신청 요약 유지
+ * - 신청 생성/승인/반려 트랜잭션 안에서 요약 행을 잠그고 증분 갱신 (같은 트랜잭션이므로 롤백도 함께)
+ * - 요약 행이 아직 없는 사용자(도입 이전 데이터)는 그 자리에서 DB 기준으로 재계산해서 생성
+ * - 조회는 user_id 유니크 인덱스로 한 행만 읽음
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class RequestSummaryService {
+
+    private static final TypeReference<List<RecentRequest>> RECENT_TYPE = new TypeReference<>() {
+    };
+
+    private final UserRequestSummaryRepository summaryRepository;
+    private final UserRepository userRepository;
+    private final EquipmentRequestRepository requestRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int recentSize;
+
+    public RequestSummaryService(
+            UserRequestSummaryRepository summaryRepository,
+            UserRepository userRepository,
+            EquipmentRequestRepository requestRepository,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            @Value("${summary.recent-size:5}") int recentSize) {
+        this.summaryRepository = summaryRepository;
+        this.userRepository = userRepository;
+        this.requestRepository = requestRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.recentSize = recentSize;
+    }
+
+    // 신청 생성 트랜잭션 안에서 호출 (항목은 JDBC 로 넣었으므로 이름/수량은 호출 측에서 전달)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(EquipmentRequest request, Map<Long, Integer> quantities, Map<Long, Equipment> equipmentById) {
+        Locked locked = lockOrRebuild(request.getUser().getId());
+        UserRequestSummary summary = locked.summary();
+
+        List<RecentItem> items = new ArrayList<>(quantities.size());
+        quantities.forEach((equipmentId, quantity) ->
+                items.add(new RecentItem(equipmentById.get(equipmentId).getName(), quantity)));
+
+        List<RecentRequest> recent = readRecent(summary);
+        // 방금 재계산했다면 이번 신청은 이미 건수에 포함되어 있고, 목록에는 항목 없이 들어가 있음
+        recent.removeIf(r -> r.id().equals(request.getId()));
+        recent.add(0, new RecentRequest(request.getId(), RequestStatus.PENDING.name(),
+                request.getCreatedAt().toString(), null, items));
+        if (!locked.rebuilt()) {
+            summary.created();
+        }
+        summary.updateRecent(writeRecent(recent));
+    }
+
+    // 승인/반려 트랜잭션 안에서 호출 (사용자 id 순으로 잠가서 일괄 처리끼리 교착 방지)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordProcessed(Collection<EquipmentRequest> processed) {
+        Map<Long, List<EquipmentRequest>> byUser = new TreeMap<>();
+        for (EquipmentRequest request : processed) {
+            byUser.computeIfAbsent(request.getUser().getId(), k -> new ArrayList<>()).add(request);
+        }
+
+        byUser.forEach((userId, requests) -> {
+            Locked locked = lockOrRebuild(userId);
+            if (locked.rebuilt()) {
+                return; // 변경된 상태까지 반영해서 재계산됨
+            }
+            UserRequestSummary summary = locked.summary();
+            List<RecentRequest> recent = readRecent(summary);
+            for (EquipmentRequest request : requests) {
+                recent.replaceAll(r -> r.id().equals(request.getId())
+                        ? r.processed(request.getStatus().name(), request.getProcessedAt().toString())
+                        : r);
+                summary.processed(request.getStatus());
+            }
+            summary.updateRecent(writeRecent(recent));
+        });
+    }
+
+    // 요약 조회 (없으면 한 번 재계산해서 저장, 재계산은 별도 쓰기 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SummaryView getSummary(Long userId) {
+        UserRequestSummary summary = summaryRepository.findByUserId(userId)
+                .orElseGet(() -> transactionTemplate.execute(status -> rebuild(userId)));
+        return new SummaryView(summary.getPendingCount(), summary.getApprovedCount(), summary.getRejectedCount(),
+                readRecent(summary));
+    }
+
+    /**
+     * 전체 사용자 요약 재계산 (도입 시 backfill, 불일치 복구용)
+     * - 사용자마다 별도 트랜잭션 (긴 트랜잭션/대량 잠금 방지)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+        }
+        log.info("신청 요약 재계산 완료: 사용자 {}명", userIds.size());
+        return userIds.size();
+    }
+
+    // 요약 행을 잠금 조회, 없으면 사용자 행을 잠근 뒤 DB 기준으로 생성 (rebuilt = true)
+    private Locked lockOrRebuild(Long userId) {
+        return summaryRepository.findByUserIdForUpdate(userId)
+                .map(summary -> new Locked(summary, false))
+                .orElseGet(() -> new Locked(rebuild(userId), true));
+    }
+
+    // 트랜잭션 안에서 호출: 사용자 행 잠금으로 같은 사용자의 요약 생성을 직렬화
+    private UserRequestSummary rebuild(Long userId) {
+        userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        long pending = 0, approved = 0, rejected = 0;
+        for (Object[] row : requestRepository.countByStatusForUser(userId)) {
+            long count = (Long) row[1];
+            switch ((RequestStatus) row[0]) {
+                case PENDING -> pending = count;
+                case APPROVED -> approved = count;
+                case REJECTED -> rejected = count;
+            }
+        }
+
+        List<EquipmentRequest> latest = requestRepository.findByUserIdWithUser(userId, PageRequest.of(0, recentSize));
+        List<Long> ids = latest.stream().map(EquipmentRequest::getId).toList();
+        if (!ids.isEmpty()) {
+            requestRepository.findAllByIdInWithItems(ids);
+        }
+        List<RecentRequest> recent = latest.stream().map(RecentRequest::from).toList();
+        String recentJson = writeRecent(recent);
+
+        UserRequestSummary summary = summaryRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (summary == null) {
+            return summaryRepository.save(UserRequestSummary.builder()
+                    .userId(userId)
+                    .pendingCount(pending)
+                    .approvedCount(approved)
+                    .rejectedCount(rejected)
+                    .recentRequests(recentJson)
+                    .build());
+        }
+        summary.replace(pending, approved, rejected, recentJson);
+        return summary;
+    }
+
+    private List<RecentRequest> readRecent(UserRequestSummary summary) {
+        try {
+            return new ArrayList<>(objectMapper.readValue(summary.getRecentRequests(), RECENT_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("신청 요약을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String writeRecent(List<RecentRequest> recent) {
+        try {
+            return objectMapper.writeValueAsString(recent.size() > recentSize ? recent.subList(0, recentSize) : recent);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("신청 요약을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private record Locked(UserRequestSummary summary, boolean rebuilt) {
+    }
+
+    public record RecentRequest(Long id, String status, String createdAt, String processedAt, List<RecentItem> items) {
+
+        static RecentRequest from(EquipmentRequest request) {
+            List<RecentItem> items = new ArrayList<>();
+            for (RequestItem item : request.getItems()) {
+                items.add(new RecentItem(item.getEquipment().getName(), item.getQuantity()));
+            }
+            return new RecentRequest(request.getId(), request.getStatus().name(), request.getCreatedAt().toString(),
+                    request.getProcessedAt() != null ? request.getProcessedAt().toString() : null, items);
+        }
+
+        RecentRequest processed(String status, String processedAt) {
+            return new RecentRequest(id, status, createdAt, processedAt, items);
+        }
+    }
+
+    public record RecentItem(String equipmentName, Integer quantity) {
+    }
+
+    public record SummaryView(long pending, long approved, long rejected, List<RecentRequest> recent) {
+    }
+}
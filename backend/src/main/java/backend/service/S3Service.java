@@ -1,33 +1,76 @@
 package backend.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Client s3Client;
-
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    // multipart 파트 크기 (S3 최소값, 마지막 파트만 더 작을 수 있음)
+    static final int PART_SIZE = 5 * 1024 * 1024;
 
-    @Value("${aws.s3.region}")
-    private String region;
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String baseUrl;
+
+    // 동시 업로드 수 제한 (초과 요청은 잠시 대기 후 503 + Retry-After 로 거절)
+    private final Semaphore uploadPermits;
+    private final long acquireTimeoutMs;
+
+    // 이 크기 이상은 multipart 업로드 (파트 단위로 재시도, 실패하면 abort 로 올린 파트 정리)
+    private final long multipartThreshold;
+
+    public S3Service(
+            S3Client s3Client,
+            @Value("${aws.s3.bucket}") String bucketName,
+            @Value("${aws.s3.region}") String region,
+            @Value("${aws.s3.endpoint:}") String endpoint,
+            @Value("${aws.s3.max-concurrent-uploads:8}") int maxConcurrentUploads,
+            @Value("${aws.s3.upload-acquire-timeout-ms:3000}") long acquireTimeoutMs,
+            @Value("${aws.s3.multipart-threshold-bytes:8388608}") long multipartThreshold) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        // endpoint 가 있으면 그 주소 기준 path-style URL 사용
+        this.baseUrl = endpoint.isBlank()
+                ? String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region)
+                : String.format("%s/%s/", endpoint.replaceAll("/+$", ""), bucketName);
+        this.uploadPermits = new Semaphore(maxConcurrentUploads);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.multipartThreshold = Math.max(multipartThreshold, PART_SIZE);
+    }
 
     /**
      * 파일을 S3에 업로드하고 URL을 반환
+     * - multipart 임시 파일을 스트림으로 바로 전송 (getBytes() 로 힙에 복사하지 않음)
+     * - multipartThreshold 이상이면 PART_SIZE 단위 multipart 업로드 (파트 버퍼 1개만 힙에 올림)
+     * - 블로킹 호출이므로 운영에서는 가상 스레드(spring.threads.virtual.enabled)로 실행됨
+     * - DB 트랜잭션 밖에서 호출할 것
      */
     public String uploadFile(MultipartFile file) throws IOException {
         if (file.isEmpty()) {
@@ -42,19 +85,25 @@ public class S3Service {
         }
         String fileName = UUID.randomUUID().toString() + extension;
 
-        // S3에 업로드
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
-                    .contentType(file.getContentType())
-                    .build();
+        acquireUploadPermit();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+        // S3에 업로드
+        try (InputStream inputStream = file.getInputStream()) {
+            if (file.getSize() >= multipartThreshold) {
+                uploadMultipart(fileName, file.getContentType(), inputStream);
+            } else {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileName)
+                        .contentType(file.getContentType())
+                        .contentLength(file.getSize())
+                        .build();
+
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+            }
 
             // 업로드된 파일의 URL 반환
-            String fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s",
-                    bucketName, region, fileName);
+            String fileUrl = baseUrl + fileName;
 
             log.info("파일 업로드 성공: {}", fileUrl);
             return fileUrl;
@@ -62,6 +111,71 @@ public class S3Service {
         } catch (Exception e) {
             log.error("파일 업로드 실패", e);
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
+    // 파트를 순서대로 올리고 complete, 중간에 실패하면 abort (완성되지 않은 파트가 버킷에 남아 과금되지 않도록)
+    private void uploadMultipart(String key, String contentType, InputStream inputStream) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] part;
+            while ((part = inputStream.readNBytes(PART_SIZE)).length > 0) {
+                int partNumber = parts.size() + 1;
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) part.length)
+                        .build(), RequestBody.fromBytes(part)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+            throw e;
+        }
+    }
+
+    // 이 버킷에 올린 파일인지 (시드 데이터의 외부 이미지 URL 등은 삭제 대상 아님)
+    public boolean isManagedUrl(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith(baseUrl);
+    }
+
+    // 이 버킷 URL 에서 object key 추출 (관리 대상이 아니면 null)
+    public String keyOf(String fileUrl) {
+        return isManagedUrl(fileUrl) ? fileUrl.substring(baseUrl.length()) : null;
+    }
+
+    private void acquireUploadPermit() {
+        try {
+            if (!uploadPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ServiceBusyException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.", Duration.ofMillis(acquireTimeoutMs));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드가 중단되었습니다.", e);
         }
     }
 
@@ -86,4 +200,38 @@ public class S3Service {
             throw new RuntimeException("파일 삭제에 실패했습니다.", e);
         }
     }
+
+    /**
+     * 서버에서 만든 바이트(이미지 파생본 등)를 지정한 key 로 업로드
+     */
+    public void putObject(String key, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    }
+
+    /**
+     * key 로 파일 조회 (없으면 empty)
+     */
+    public Optional<byte[]> getObject(String key) {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build();
+            return Optional.of(s3Client.getObjectAsBytes(getObjectRequest).asByteArray());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void deleteObject(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
 }
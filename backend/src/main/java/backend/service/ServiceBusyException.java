@@ -0,0 +1,28 @@
+package backend.service;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 동시 처리 한도를 넘어 거절한 요청 (서버 오류가 아니라 잠시 후 재시도 대상)
+ * - 상태 코드 + Retry-After 헤더(초)로 응답 (ResponseStatusExceptionResolver 가 getHeaders 를 응답에 복사)
+ */
+public class ServiceBusyException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(HttpStatusCode status, String reason, Duration retryAfter) {
+        super(status, reason);
+        this.retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
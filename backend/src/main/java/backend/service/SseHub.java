@@ -0,0 +1,299 @@
+package backend.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * SSE 연결 허브 (비품 변경 / 신청 상태 변경 푸시)
+ * - 발행은 연결별 고정 크기 버퍼에 넣기만 하고 바로 반환 → 느린 클라이언트가 발행 스레드나 다른 연결을 막지 않음
+ * - 실제 전송은 연결마다 최대 1개의 가상 스레드가 버퍼를 비울 때까지 담당 (소켓 쓰기에서 막혀도 플랫폼 스레드를 잡지 않음)
+ * - 버퍼가 가득 차면 밀린 메시지를 버리고 resync 1건만 남김 → 클라이언트는 목록을 한 번 다시 조회
+ * - 재연결 replay 가 있으면 연결을 먼저 등록하고 replay 를 읽는 동안 온 실시간 메시지는 보관했다가 replay 뒤에 보냄
+ *   (등록 전에 replay 를 읽으면 그 사이 발행된 메시지를 놓침)
+ * - 연결은 비동기 응답이라 요청 스레드를 잡지 않으므로 노드당 연결 수를 직접 제한 (전체 / 비로그인 따로)
+ *   한도를 넘으면 503 + Retry-After → 클라이언트는 백오프 후 재연결 (비로그인 연결이 로그인 사용자 자리를 다 차지하지 못함)
+ * - 지표: sse.connections, sse.sent, sse.overflow, sse.rejected
+ */
+@Component
+public class SseHub implements MeterBinder {
+
+    private static final Message RESYNC = new Message(null, "resync", "buffer overflow");
+    private static final Message HEARTBEAT = new Message(null, null, "ping");
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final int maxAnonymousConnections;
+    private final Duration retryAfter;
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-sender-", 0).factory());
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    // 한도 검사용 (clients.size() 는 검사와 등록 사이에 다른 연결이 끼어들 수 있음)
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger anonymousConnections = new AtomicInteger();
+
+    public SseHub(
+            @Value("${sse.timeout-ms:1800000}") long timeoutMs,
+            @Value("${sse.client-buffer:64}") int bufferSize,
+            @Value("${sse.max-connections:10000}") int maxConnections,
+            @Value("${sse.max-anonymous-connections:2000}") int maxAnonymousConnections,
+            @Value("${sse.retry-after-ms:5000}") long retryAfterMs) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.maxAnonymousConnections = maxAnonymousConnections;
+        this.retryAfter = Duration.ofMillis(retryAfterMs);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.connections", clients, Set::size).register(registry);
+        FunctionCounter.builder("sse.sent", sent, AtomicLong::get).register(registry);
+        FunctionCounter.builder("sse.overflow", overflows, AtomicLong::get).register(registry);
+        FunctionCounter.builder("sse.rejected", rejected, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * 연결 등록
+     * - userId: 본인 신청 상태를 받을 사용자 (비로그인이면 null), admin: 모든 신청 상태 수신, catalog: 비품 변경 수신
+     * - initial: 실시간 메시지보다 먼저 보낼 메시지
+     * - 노드 연결 한도(비로그인은 별도 한도)를 넘으면 ServiceBusyException (503 + Retry-After)
+     */
+    public SseEmitter connect(Long userId, boolean admin, boolean catalog, List<Message> initial) {
+        return connect(userId, admin, catalog, () -> initial);
+    }
+
+    /**
+     * 재연결 replay 와 함께 연결 등록
+     * - replay 는 연결을 등록한 뒤에 호출 → 호출 중에 발행된 실시간 메시지는 보관해 두었다가 replay 뒤에 보냄
+     * - 보관한 메시지 중 replay 에 같은 id 가 있는 것은 버림 (중복 전송 없음)
+     */
+    public SseEmitter connect(Long userId, boolean admin, boolean catalog, Supplier<List<Message>> replay) {
+        boolean anonymous = userId == null && !admin;
+        admit(anonymous);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Client client = new Client(emitter, userId, admin, catalog, new ArrayBlockingQueue<>(bufferSize), anonymous);
+        emitter.onCompletion(() -> remove(client));
+        emitter.onTimeout(() -> remove(client));
+        emitter.onError(e -> remove(client));
+
+        clients.add(client);
+        List<Message> initial;
+        try {
+            initial = replay.get();
+        } catch (RuntimeException e) {
+            remove(client);
+            throw e;
+        }
+        release(client, initial);
+        return emitter;
+    }
+
+    // 연결 자리 확보 (실패하면 잡은 자리를 되돌리고 거절)
+    private void admit(boolean anonymous) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            reject();
+        }
+        if (anonymous && anonymousConnections.incrementAndGet() > maxAnonymousConnections) {
+            anonymousConnections.decrementAndGet();
+            connections.decrementAndGet();
+            reject();
+        }
+    }
+
+    private void reject() {
+        rejected.incrementAndGet();
+        throw new ServiceBusyException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결 수가 한도를 넘었습니다", retryAfter);
+    }
+
+    public void publish(Predicate<Client> target, Message message) {
+        for (Client client : clients) {
+            if (target.test(client)) {
+                enqueue(client, message);
+            }
+        }
+    }
+
+    public boolean hasAny(Predicate<Client> target) {
+        for (Client client : clients) {
+            if (target.test(client)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료 방지 + 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        publish(client -> true, HEARTBEAT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        clients.forEach(client -> client.emitter().complete());
+        clients.clear();
+    }
+
+    private void enqueue(Client client, Message message) {
+        if (client.closed().get()) {
+            return;
+        }
+        if (client.held().get() != null && hold(client, message)) {
+            return;
+        }
+        offer(client, message);
+        schedule(client);
+    }
+
+    // replay 를 읽는 중이면 보관하고 true (보관 한도를 넘으면 resync 1건만 남김)
+    private boolean hold(Client client, Message message) {
+        client.lock().lock();
+        try {
+            List<Message> held = client.held().get();
+            if (held == null) {
+                return false;
+            }
+            if (held.size() >= bufferSize) {
+                held.clear();
+                held.add(RESYNC);
+                overflows.incrementAndGet();
+            } else {
+                held.add(message);
+            }
+            return true;
+        } finally {
+            client.lock().unlock();
+        }
+    }
+
+    // replay → 보관한 실시간 메시지 순으로 버퍼에 넣고 보관 종료 (락 안에서 하므로 이후 발행은 그 뒤에 붙음)
+    private void release(Client client, List<Message> initial) {
+        Set<String> replayed = initial.stream()
+                .map(Message::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        client.lock().lock();
+        try {
+            initial.forEach(message -> offer(client, message));
+            for (Message message : client.held().getAndSet(null)) {
+                if (message.id() == null || !replayed.contains(message.id())) {
+                    offer(client, message);
+                }
+            }
+        } finally {
+            client.lock().unlock();
+        }
+        schedule(client);
+    }
+
+    private void offer(Client client, Message message) {
+        if (!client.buffer().offer(message)) {
+            client.buffer().clear();
+            client.buffer().offer(RESYNC);
+            overflows.incrementAndGet();
+        }
+    }
+
+    private void schedule(Client client) {
+        if (client.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(client));
+        }
+    }
+
+    private void drain(Client client) {
+        boolean open = true;
+        try {
+            Message message;
+            while ((message = client.buffer().poll()) != null) {
+                send(client.emitter(), message);
+                sent.incrementAndGet();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 (이미 완료된 emitter 포함)
+            open = false;
+            remove(client);
+            client.emitter().completeWithError(e);
+        } finally {
+            client.draining().set(false);
+        }
+        // poll 이 비었다고 본 직후에 들어온 메시지
+        if (open && !client.buffer().isEmpty()) {
+            schedule(client);
+        }
+    }
+
+    private static void send(SseEmitter emitter, Message message) throws IOException {
+        if (message.event() == null) {
+            emitter.send(SseEmitter.event().comment(String.valueOf(message.data())));
+            return;
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.event()).data(message.data());
+        if (message.id() != null) {
+            event.id(message.id());
+        }
+        emitter.send(event);
+    }
+
+    // onCompletion / onError / 전송 실패에서 여러 번 불릴 수 있음 → 자리는 처음 한 번만 반납
+    private void remove(Client client) {
+        if (client.closed().compareAndSet(false, true)) {
+            connections.decrementAndGet();
+            if (client.anonymous()) {
+                anonymousConnections.decrementAndGet();
+            }
+        }
+        clients.remove(client);
+        client.buffer().clear();
+    }
+
+    // id: SSE id (재연결 시 Last-Event-ID 로 돌아옴, 없으면 null), event: 이벤트 이름 (null 이면 주석 = heartbeat)
+    public record Message(String id, String event, Object data) {
+    }
+
+    // held: replay 를 읽는 동안 보관하는 실시간 메시지 (lock 으로 보호, 보관이 끝나면 null)
+    public record Client(SseEmitter emitter, Long userId, boolean admin, boolean catalog,
+                         ArrayBlockingQueue<Message> buffer, AtomicBoolean draining, AtomicBoolean closed,
+                         ReentrantLock lock, AtomicReference<List<Message>> held, boolean anonymous) {
+
+        Client(SseEmitter emitter, Long userId, boolean admin, boolean catalog, ArrayBlockingQueue<Message> buffer,
+               boolean anonymous) {
+            this(emitter, userId, admin, catalog, buffer, new AtomicBoolean(), new AtomicBoolean(),
+                    new ReentrantLock(), new AtomicReference<>(new ArrayList<>()), anonymous);
+        }
+    }
+}
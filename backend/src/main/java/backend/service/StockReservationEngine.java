@@ -0,0 +1,236 @@
+package backend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+import backend.repository.EquipmentRepository;
+import backend.repository.RequestItemRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비품별 재고 예약 카운터 (메모리)
+ * - available = DB 재고 - PENDING 신청 수량, reserved = PENDING 신청 수량
+ * - 신청 시 reserve, 승인 커밋 후 confirm, 반려 커밋 후 release
+ * - 카운터는 처음 조회될 때 DB 기준으로 만들어지고, 관리자가 재고를 바꾸면 invalidate 로 다시 만든다
+ * - 다시 만드는 것은 그 비품에 진행 중인 트랜잭션(reserve/confirm/release 후 아직 끝나지 않은 것)이 없을 때만
+ *   진행 중이면 기존 카운터를 계속 쓰다가 마지막 트랜잭션이 끝날 때 버림
+ *   (커밋 전 신청은 DB 합계에 안 잡히므로, 그 사이에 새로 만들면 예약분이 빠진 카운터가 됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class StockReservationEngine {
+
+    private final EquipmentRepository equipmentRepository;
+    private final RequestItemRepository requestItemRepository;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    // 신청 생성 트랜잭션 안에서 호출: 재고가 부족하면 예외, 트랜잭션이 롤백되면 자동으로 반환
+    public void reserve(Long equipmentId, int quantity) {
+        Slot slot = slot(equipmentId);
+        StockCounter counter = begin(equipmentId, slot);
+        if (!counter.tryReserve(quantity)) {
+            finish(slot);
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+        onCompletion(slot, committed -> {
+            if (!committed) {
+                counter.release(quantity);
+            }
+        });
+    }
+
+    // 승인: DB 재고 차감이 커밋된 뒤 예약분을 확정
+    public void confirm(Long equipmentId, int quantity) {
+        Slot slot = slot(equipmentId);
+        StockCounter counter = begin(slot);
+        onCompletion(slot, committed -> {
+            if (committed && counter != null) {
+                counter.confirm(quantity);
+            }
+        });
+    }
+
+    // 반려: 커밋된 뒤 예약분을 다시 신청 가능 재고로 돌려놓음
+    public void release(Long equipmentId, int quantity) {
+        Slot slot = slot(equipmentId);
+        StockCounter counter = begin(slot);
+        onCompletion(slot, committed -> {
+            if (committed && counter != null) {
+                counter.release(quantity);
+            }
+        });
+    }
+
+    // 관리자 재고 수정/삭제 시: 커밋 후 카운터를 버림 (진행 중인 트랜잭션이 있으면 끝난 뒤에)
+    public void invalidate(Long equipmentId) {
+        Slot slot = slot(equipmentId);
+        afterCommit(() -> {
+            slot.lock.lock();
+            try {
+                if (slot.inFlight == 0) {
+                    slot.counter = null;
+                } else {
+                    slot.stale = true;
+                }
+            } finally {
+                slot.lock.unlock();
+            }
+        });
+    }
+
+    // DB 재고와 같은 값 (신청 가능 재고 + PENDING 예약분)
+    public int getStock(Long equipmentId) {
+        Slot slot = slot(equipmentId);
+        StockCounter counter;
+        slot.lock.lock();
+        try {
+            counter = load(equipmentId, slot);
+        } finally {
+            slot.lock.unlock();
+        }
+        return counter.available.get() + counter.reserved.get();
+    }
+
+    private Slot slot(Long equipmentId) {
+        return slots.computeIfAbsent(equipmentId, id -> new Slot());
+    }
+
+    // 카운터를 쓰는 트랜잭션 시작 (카운터가 없으면 DB 기준으로 생성)
+    private StockCounter begin(Long equipmentId, Slot slot) {
+        slot.lock.lock();
+        try {
+            StockCounter counter = load(equipmentId, slot);
+            slot.inFlight++;
+            return counter;
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    // 커밋 후에만 반영하는 확정/반환: 카운터가 아직 없으면 만들지 않음 (다음에 만들 때 DB 에 반영돼 있음)
+    private StockCounter begin(Slot slot) {
+        slot.lock.lock();
+        try {
+            slot.inFlight++;
+            return slot.counter;
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    private void finish(Slot slot) {
+        slot.lock.lock();
+        try {
+            if (--slot.inFlight == 0 && slot.stale) {
+                slot.counter = null;
+                slot.stale = false;
+            }
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * slot 락 안에서 호출
+     * - DB 조회도 락 안에서 함 (같은 비품의 reserve/confirm 이 조회와 교체 사이에 끼어들지 않도록, 다른 비품은 막지 않음)
+     * - 진행 중인 트랜잭션이 있는데 새로 만들어야 하면(처음 조회) 일단 쓰고, 끝나면 다시 만들도록 stale 표시
+     */
+    private StockCounter load(Long equipmentId, Slot slot) {
+        if (slot.counter != null) {
+            return slot.counter;
+        }
+        int stock = equipmentRepository.findStockById(equipmentId)
+                .orElseThrow(() -> new IllegalArgumentException("비품을 찾을 수 없습니다."));
+        Long pending = requestItemRepository.sumQuantityByEquipmentIdAndStatus(equipmentId, RequestStatus.PENDING);
+        int reserved = pending != null ? pending.intValue() : 0;
+
+        slot.counter = new StockCounter(stock - reserved, reserved);
+        slot.stale = slot.inFlight > 0;
+        return slot.counter;
+    }
+
+    // 트랜잭션이 끝나면 action(커밋 여부) 실행 후 진행 중 카운트 감소 (트랜잭션 밖이면 바로)
+    private void onCompletion(Slot slot, Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                action.accept(true);
+            } finally {
+                finish(slot);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    action.accept(status == STATUS_COMMITTED);
+                } finally {
+                    finish(slot);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 비품 1개의 카운터 수명 관리 (counter/inFlight/stale 은 lock 으로 보호, 카운터 값 자체는 CAS)
+    private static final class Slot {
+        private final ReentrantLock lock = new ReentrantLock();
+        private StockCounter counter;
+        private int inFlight;
+        private boolean stale;
+    }
+
+    // 락 없이 CAS 로만 갱신
+    static final class StockCounter {
+        private final AtomicInteger available;
+        private final AtomicInteger reserved;
+
+        StockCounter(int available, int reserved) {
+            this.available = new AtomicInteger(available);
+            this.reserved = new AtomicInteger(reserved);
+        }
+
+        boolean tryReserve(int quantity) {
+            while (true) {
+                int current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    reserved.addAndGet(quantity);
+                    return true;
+                }
+            }
+        }
+
+        void confirm(int quantity) {
+            reserved.addAndGet(-quantity);
+        }
+
+        void release(int quantity) {
+            reserved.addAndGet(-quantity);
+            available.addAndGet(quantity);
+        }
+    }
+}
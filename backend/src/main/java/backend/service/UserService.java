@@ -3,9 +3,12 @@ package backend.service;
 import backend.domain.User;
 import backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -13,25 +16,47 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
 
-    // 회원가입
-    @Transactional
+    // 회원가입 (해시는 트랜잭션 밖에서 계산 → 해시하는 동안 DB 커넥션을 잡고 있지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long signup(String email, String password, String name) {
 
         if (userRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
         }
 
-        User user = User.builder()
-                .email(email)
-                .password(passwordEncoder.encode(password))
-                .name(name)
-                .role(User.UserRole.USER)
-                .build();
+        String encodedPassword = passwordHashingService.encode(password);
+
+        return transactionTemplate.execute(status -> {
+            User user = User.builder()
+                    .email(email)
+                    .password(encodedPassword)
+                    .name(name)
+                    .role(User.UserRole.USER)
+                    .build();
+
+            User savedUser = userRepository.save(user);
+            return savedUser.getId();
+        });
+    }
 
-        User savedUser = userRepository.save(user);
-        return savedUser.getId();
+    // 로그인: 비밀번호가 맞으면 사용자 반환, 틀리면 empty
+    // BCrypt cost 설정이 바뀐 뒤 처음 로그인하면 새 cost 로 다시 해시해서 저장
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<User> authenticate(String email, String password) {
+        User user = findByEmail(email);
+        if (!passwordHashingService.matches(password, user.getPassword())) {
+            return Optional.empty();
+        }
+
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            String rehashed = passwordHashingService.encode(password);
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.findById(user.getId()).ifPresent(u -> u.changePassword(rehashed)));
+        }
+        return Optional.of(user);
     }
 
     // 로그인 
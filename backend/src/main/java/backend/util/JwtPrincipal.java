@@ -0,0 +1,13 @@
+package backend.util;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 사용자 정보 (불변)
+ */
+public record JwtPrincipal(Long userId, String email, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
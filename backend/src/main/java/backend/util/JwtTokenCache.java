@@ -0,0 +1,123 @@
+package backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 검증이 끝난 액세스 토큰 캐시
+ * - key: 토큰 SHA-256 digest (원본 토큰은 보관하지 않음)
+ * - 엔트리는 토큰의 exp 시각에 만료
+ * - 최대 크기를 넘으면 만료된 엔트리부터 정리하고, 그래도 가득 차 있으면 임의의 엔트리를 제거
+ * - 적중/실패/제거 횟수와 크기는 jwt.cache.* 메트릭으로 노출
+ */
+@Component
+public class JwtTokenCache implements MeterBinder {
+
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+
+    private final Map<String, JwtPrincipal> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JwtTokenCache(JwtUtil jwtUtil, @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+    }
+
+    // 캐시에 있으면 그대로, 없으면 서명 검증 후 캐시에 저장 (만료/위조 토큰이면 JwtException)
+    public JwtPrincipal verify(String token) {
+        String key = digest(token);
+        Instant now = Instant.now();
+
+        JwtPrincipal cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hits.increment();
+                return cached;
+            }
+            if (cache.remove(key, cached)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        JwtPrincipal principal = jwtUtil.parse(token);
+        if (cache.size() >= maxSize) {
+            evict(now);
+        }
+        cache.put(key, principal);
+        return principal;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.requests", hits, LongAdder::sum).tag("result", "hit").register(registry);
+        FunctionCounter.builder("jwt.cache.requests", misses, LongAdder::sum).tag("result", "miss").register(registry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, LongAdder::sum).register(registry);
+        Gauge.builder("jwt.cache.size", cache, Map::size).register(registry);
+    }
+
+    private void evict(Instant now) {
+        // 1. 만료된 엔트리 정리
+        cache.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().isExpired(now);
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+
+        // 2. 그래도 가득 차 있으면 여유분(10%)을 확보할 때까지 제거
+        Iterator<String> iterator = cache.keySet().iterator();
+        int target = maxSize - Math.max(1, maxSize / 10);
+        while (cache.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
@@ -8,13 +8,20 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 @Component
 public class JwtUtil {
 
+    private static final String TOKEN_TYPE = "typ";
+    private static final String REFRESH = "refresh";
+    private static final String FAMILY = "fam";
+
     private final SecretKey secretKey;
+    private final JwtParser parser; // 불변 + thread-safe 이므로 한 번만 생성
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -23,6 +30,7 @@ public class JwtUtil {
             @Value("${jwt.access-expiration}") long accessTokenExpiration,
             @Value("${jwt.refresh-expiration}") long refreshTokenExpiration) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -38,22 +46,52 @@ public class JwtUtil {
                 .compact();
     }
 
-    public String generateRefreshToken(Long userId) {
+    // 리프레시 토큰: 회전 저장소(RefreshTokenService)가 family / token id 로 재사용 여부를 판단
+    public String generateRefreshToken(Long userId, String familyId, String tokenId) {
         return Jwts.builder()
                 .subject(userId.toString())
+                .id(tokenId)
+                .claim(TOKEN_TYPE, REFRESH)
+                .claim(FAMILY, familyId)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
                 .signWith(secretKey)
                 .compact();
     }
 
+    // 리프레시 토큰 서명/만료 검증 (액세스 토큰이면 JwtException)
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims = getClaims(token);
+        if (!REFRESH.equals(claims.get(TOKEN_TYPE, String.class))) {
+            throw new JwtException("리프레시 토큰이 아닙니다.");
+        }
+        return new RefreshTokenClaims(
+                Long.parseLong(claims.getSubject()),
+                claims.get(FAMILY, String.class),
+                claims.getId(),
+                claims.getExpiration().toInstant());
+    }
+
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
     // 토큰에서 Claims 추출
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    // 서명 검증 1회로 사용자 정보 추출 (만료/위조 토큰, 리프레시 토큰이면 JwtException)
+    public JwtPrincipal parse(String token) {
+        Claims claims = getClaims(token);
+        if (REFRESH.equals(claims.get(TOKEN_TYPE, String.class))) {
+            throw new JwtException("리프레시 토큰으로는 인증할 수 없습니다.");
+        }
+        return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration().toInstant());
     }
 
     // 토큰에서 userId 추출
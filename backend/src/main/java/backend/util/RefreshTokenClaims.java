@@ -0,0 +1,9 @@
+package backend.util;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 리프레시 토큰 정보 (불변)
+ */
+public record RefreshTokenClaims(Long userId, String familyId, String tokenId, Instant expiresAt) {
+}
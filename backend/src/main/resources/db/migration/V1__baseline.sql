@@ -0,0 +1,49 @@
+-- 기준 스키마 (Flyway 도입 전부터 있던 테이블)
+-- MySQL / H2(MODE=MySQL) 공통 문법만 사용
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+
+CREATE TABLE users (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)  NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    role       VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE equipment (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6)  NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    description TEXT,
+    category    VARCHAR(255) NOT NULL,
+    image_url   VARCHAR(255),
+    stock       INT          NOT NULL,
+    available   BOOLEAN      NOT NULL,
+    version     BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE equipment_requests (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6)  NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    reject_reason VARCHAR(255),
+    processed_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_equipment_requests_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE request_items (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6) NOT NULL,
+    request_id   BIGINT      NOT NULL,
+    equipment_id BIGINT      NOT NULL,
+    quantity     INT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_request_items_request FOREIGN KEY (request_id) REFERENCES equipment_requests (id),
+    CONSTRAINT fk_request_items_equipment FOREIGN KEY (equipment_id) REFERENCES equipment (id)
+);
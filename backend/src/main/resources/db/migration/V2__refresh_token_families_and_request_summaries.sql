@@ -0,0 +1,29 @@
+-- 리프레시 토큰 family / 사용자별 신청 요약 테이블
+-- 기존 DB 는 V1 로 베이스라인 등록되어 V1 을 실행하지 않으므로 V1 이후에 생긴 테이블은 여기서 만듦
+-- ddl-auto(update) 시절에 이미 만들어진 DB 도 있으므로 IF NOT EXISTS
+
+CREATE TABLE IF NOT EXISTS refresh_token_families (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6)  NOT NULL,
+    family_id        VARCHAR(36)  NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    email            VARCHAR(255) NOT NULL,
+    role             VARCHAR(255) NOT NULL,
+    current_token_id VARCHAR(36)  NOT NULL,
+    revoked          BOOLEAN      NOT NULL,
+    expires_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_families_family_id UNIQUE (family_id)
+);
+
+CREATE TABLE IF NOT EXISTS user_request_summaries (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at      DATETIME(6) NOT NULL,
+    user_id         BIGINT      NOT NULL,
+    pending_count   BIGINT      NOT NULL,
+    approved_count  BIGINT      NOT NULL,
+    rejected_count  BIGINT      NOT NULL,
+    recent_requests TEXT        NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_request_summaries_user_id UNIQUE (user_id)
+);
@@ -0,0 +1,19 @@
+-- 리포지토리 쿼리 모양에 맞춘 인덱스 (QueryPlanTest 가 전체 스캔 여부를 검사)
+
+-- 상태별 조회 / 오래된 PENDING 일괄 처리: WHERE status = ? [AND created_at < ?] ORDER BY created_at
+CREATE INDEX idx_equipment_requests_status_created_at ON equipment_requests (status, created_at);
+
+-- 내 신청 목록: WHERE user_id = ? ORDER BY created_at DESC
+CREATE INDEX idx_equipment_requests_user_created_at ON equipment_requests (user_id, created_at);
+
+-- 관리자 전체 목록 / 키셋 페이지: 필터 없이 ORDER BY created_at DESC, id DESC LIMIT n
+CREATE INDEX idx_equipment_requests_created_at_id ON equipment_requests (created_at DESC, id DESC);
+
+-- 카테고리별 카탈로그: WHERE category = ? [AND available = ?]
+CREATE INDEX idx_equipment_category_available ON equipment (category, available);
+
+-- 비품별 PENDING 수량 합계: WHERE equipment_id = ? → request_id 로 신청 상태 확인, quantity 까지 인덱스에서 읽음
+CREATE INDEX idx_request_items_equipment_request ON request_items (equipment_id, request_id, quantity);
+
+-- 신청별 항목 조회 / fetch join: WHERE request_id IN (...)
+CREATE INDEX idx_request_items_request ON request_items (request_id);
@@ -0,0 +1,12 @@
+-- 신청 상태 전이 로그 (append-only outbox)
+-- 신청 생성/승인/반려 트랜잭션 안에서 함께 INSERT, RequestEventRelay 가 id 순으로 읽어 구독자에게 전달
+CREATE TABLE request_status_events (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6) NOT NULL,
+    request_id  BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    from_status VARCHAR(20),
+    to_status   VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id)
+);
+
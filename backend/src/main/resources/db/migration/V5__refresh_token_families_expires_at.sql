@@ -0,0 +1,2 @@
+-- 만료된 리프레시 토큰 family 정리 (RefreshTokenService.purgeExpired: expires_at < ? 범위 삭제)
+CREATE INDEX idx_refresh_token_families_expires_at ON refresh_token_families (expires_at);
@@ -0,0 +1,32 @@
+package backend.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * 비품 목록 gzip 협상 테스트
+ * - q=0 으로 거부한 클라이언트에게 gzip 을 보내지 않아야 함
+ */
+class EquipmentControllerTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "gzip, deflate, br       | true",
+            "GZIP                    | true",
+            "x-gzip                  | true",
+            "gzip;q=0.5, br          | true",
+            "gzip;q=0                | false",
+            "gzip ; q=0.0, identity  | false",
+            "br, gzip;q=0, *;q=1     | false",
+            "*                       | true",
+            "*;q=0                   | false",
+            "identity                | false",
+            "gzip;q=abc              | false",
+            "null                    | false",
+    })
+    void acceptsGzip(String acceptEncoding, boolean expected) {
+        assertThat(EquipmentController.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,244 @@
+package backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import backend.domain.EquipmentRequest.RequestStatus;
+
+/**
+ * 리포지토리 쿼리 실행 계획 회귀 테스트
+ * - 각 쿼리가 실제로 보내는 SQL 을 StatementInspector 로 잡아서 H2 EXPLAIN 결과에 전체 스캔(tableScan)이 있으면 실패
+ * - 스키마는 Flyway 마이그레이션(db/migration) 그대로 → 인덱스를 빼거나 쿼리 모양을 바꾸면 여기서 걸림
+ *
+ * 의도적으로 전체를 읽는 쿼리는 검사하지 않음
+ * - EquipmentRepository.findByAvailableTrue / findByNameContaining / findAllRows: 카탈로그는 스냅샷/검색 인덱스가 메모리에서 처리
+ * - EquipmentRequestRepository.countByStatus: 관리자 목록 통계 (상태 인덱스 전체 집계)
+ * - EquipmentRequestRepository.streamItemRows: 필터 없는 대량 내보내기
+ * - UserRepository.findAllIds: 요약 테이블 전체 재계산
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private EquipmentRequestRepository requestRepository;
+
+    @Autowired
+    private RequestItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+
+    @Autowired
+    private UserRequestSummaryRepository summaryRepository;
+
+    @Autowired
+    private RequestStatusEventRepository statusEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 통계가 비어 있으면 옵티마이저 비용이 의미 없으므로 어느 정도 데이터를 채움
+        LocalDateTime now = LocalDateTime.now();
+        String[] categories = {"laptop", "monitor", "mouse", "keyboard"};
+        String[] statuses = {"PENDING", "APPROVED", "REJECTED"};
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            users.add(new Object[]{id, "user" + id + "@test.com", "pw", "user" + id, "USER", now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, email, password, name, role, created_at) VALUES (?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> equipment = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            equipment.add(new Object[]{id, "equipment" + id, categories[(int) (id % categories.length)], 100, true, 0L, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO equipment (id, name, category, stock, available, version, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", equipment);
+
+        List<Object[]> requests = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (long id = 1; id <= 400; id++) {
+            requests.add(new Object[]{id, id % 20 + 1, statuses[(int) (id % statuses.length)], now.minusMinutes(id)});
+            items.add(new Object[]{id * 2 - 1, id, id % 20 + 1, 1, now.minusMinutes(id)});
+            items.add(new Object[]{id * 2, id, (id + 7) % 20 + 1, 2, now.minusMinutes(id)});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO equipment_requests (id, user_id, status, created_at) VALUES (?, ?, ?, ?)", requests);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO request_items (id, request_id, equipment_id, quantity, created_at) VALUES (?, ?, ?, ?, ?)",
+                items);
+    }
+
+    @Test
+    void 비품_쿼리는_전체_스캔_없음() {
+        assertIndexed(() -> equipmentRepository.findByCategory("laptop"), "equipment");
+        assertIndexed(() -> equipmentRepository.findStockById(1L), "equipment");
+        assertIndexed(() -> equipmentRepository.findRowById(1L), "equipment");
+        assertIndexed(() -> equipmentRepository.decreaseStock(1L, 1), "equipment");
+    }
+
+    @Test
+    void 신청_쿼리는_전체_스캔_없음() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertIndexed(() -> requestRepository.findByUserId(1L), "equipment_requests");
+        assertIndexed(() -> requestRepository.findByUserIdWithUser(1L, PageRequest.of(0, 20)), "equipment_requests");
+        assertIndexed(() -> requestRepository.findIdsByUserId(1L, PageRequest.of(0, 20)), "equipment_requests");
+        assertIndexed(() -> requestRepository.findListRowsByUserId(1L),
+                "equipment_requests", "request_items", "equipment", "users");
+        assertIndexed(() -> requestRepository.findByIdWithItems(1L),
+                "equipment_requests", "request_items", "equipment");
+        assertIndexed(() -> requestRepository.findAllByIdInWithItems(List.of(1L, 2L, 3L)),
+                "equipment_requests", "request_items", "equipment");
+        assertIndexed(() -> requestRepository.findListRowsByIdIn(List.of(1L, 2L, 3L)),
+                "equipment_requests", "request_items", "equipment", "users");
+        assertIndexed(() -> requestRepository.countByStatusForUser(1L), "equipment_requests");
+        assertIndexed(() -> requestRepository.findIdsByStatusAndCreatedAtBefore(RequestStatus.PENDING, now),
+                "equipment_requests");
+        assertIndexed(() -> requestRepository.findPageIds(RequestStatus.PENDING, null, null, null, null,
+                PageRequest.of(0, 20)), "equipment_requests");
+        assertIndexed(() -> requestRepository.findByStatus(RequestStatus.PENDING), "equipment_requests");
+        assertIndexed(() -> requestRepository.findByStatusOrderByCreatedAtAsc(RequestStatus.PENDING),
+                "equipment_requests");
+        assertIndexed(() -> requestRepository.findIdsByStatusAfter(RequestStatus.PENDING, now, 1L,
+                PageRequest.of(0, 1000)), "equipment_requests");
+        assertIndexed(() -> requestRepository.findPendingItemRowsByIdIn(List.of(1L, 2L, 3L)),
+                "equipment_requests", "request_items");
+    }
+
+    @Test
+    void 신청_항목_쿼리는_전체_스캔_없음() {
+        assertIndexed(() -> itemRepository.findByEquipmentRequestId(1L), "request_items");
+        assertIndexed(() -> itemRepository.findByEquipmentId(1L), "request_items");
+        assertIndexed(() -> itemRepository.sumQuantityByEquipmentIdAndStatus(1L, RequestStatus.PENDING),
+                "request_items", "equipment_requests");
+    }
+
+    @Test
+    void 사용자_토큰_요약_쿼리는_전체_스캔_없음() {
+        assertIndexed(() -> userRepository.findByEmail("user1@test.com"), "users");
+        assertIndexed(() -> userRepository.existsByEmail("user1@test.com"), "users");
+        assertIndexed(() -> userRepository.findByIdForUpdate(1L), "users");
+        assertIndexed(() -> refreshTokenFamilyRepository.findByFamilyId("family"), "refresh_token_families");
+        assertIndexed(() -> refreshTokenFamilyRepository.deleteByExpiresAtBefore(LocalDateTime.now()),
+                "refresh_token_families");
+        assertIndexed(() -> summaryRepository.findByUserId(1L), "user_request_summaries");
+        assertIndexed(() -> summaryRepository.findByUserIdForUpdate(1L), "user_request_summaries");
+    }
+
+    @Test
+    void 상태_전이_로그_쿼리는_전체_스캔_없음() {
+        assertIndexed(() -> statusEventRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 200)),
+                "request_status_events");
+    }
+
+    // 쿼리가 보낸 SQL 마다 EXPLAIN → 지정한 테이블에 tableScan 이 있으면 실패
+    private void assertIndexed(Runnable query, String... tables) {
+        sqlRecorder.clear();
+        query.run();
+        List<String> statements = sqlRecorder.statements();
+        assertThat(statements).as("실행된 SQL").isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            for (String table : tables) {
+                Pattern tableScan = Pattern.compile("\\b" + table + "\"?\\.tablescan");
+                assertThat(tableScan.matcher(plan.toLowerCase(Locale.ROOT)).find())
+                        .as("%s 전체 스캔%nSQL: %s%nPLAN: %s", table, sql, plan)
+                        .isFalse();
+            }
+        }
+    }
+
+    // H2 는 파라미터 값과 무관하게 준비 시점에 계획을 세우므로 값은 모두 NULL 로 채움
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> explain(connection, sql));
+    }
+
+    private String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                ps.setNull(i, Types.NULL);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    static class SqlRecorder implements StatementInspector {
+
+        private final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> statements() {
+            return List.copyOf(statements);
+        }
+    }
+
+    @TestConfiguration
+    static class SqlRecorderConfig {
+
+        @Bean
+        SqlRecorder sqlRecorder() {
+            return new SqlRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(SqlRecorder sqlRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlRecorder);
+        }
+    }
+}
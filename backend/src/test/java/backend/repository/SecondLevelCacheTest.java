@@ -0,0 +1,179 @@
+package backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.domain.Equipment;
+import backend.domain.EquipmentRequest;
+import backend.domain.RequestItem;
+import backend.domain.User;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 테스트
+ * - 캐시에는 커밋된 값만 들어가므로 테스트 트랜잭션(롤백) 없이 실행하고 끝나면 직접 정리
+ * - 반복 조회에서 SQL 이 나가지 않는지는 Statistics.getPrepareStatementCount 로 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private static final String EMAIL = "cache@test.com";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private EquipmentRequestRepository requestRepository;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long equipmentId;
+    private Long requestId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = userRepository.save(User.builder()
+                .email(EMAIL).password("pw").name("tester").role(User.UserRole.USER)
+                .build());
+        Equipment laptop = equipmentRepository.save(equipment("MacBook Pro 14"));
+        Equipment monitor = equipmentRepository.save(equipment("LG 27인치 4K 모니터"));
+
+        EquipmentRequest request = EquipmentRequest.builder()
+                .user(user)
+                .status(EquipmentRequest.RequestStatus.PENDING)
+                .build();
+        request.addItem(RequestItem.builder().equipment(laptop).quantity(1).build());
+        request.addItem(RequestItem.builder().equipment(monitor).quantity(2).build());
+        requestRepository.save(request);
+
+        userId = user.getId();
+        equipmentId = laptop.getId();
+        requestId = request.getId();
+
+        // 저장 시 들어간 캐시 항목은 비우고 첫 조회(미스)부터 시작
+        evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM request_items");
+        jdbcTemplate.update("DELETE FROM equipment_requests");
+        jdbcTemplate.update("DELETE FROM equipment");
+        jdbcTemplate.update("DELETE FROM users");
+        evictAll();
+    }
+
+    @Test
+    void 사용자_id_반복_조회는_SQL_없음() {
+        userRepository.findById(userId).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        User user = userRepository.findById(userId).orElseThrow();
+
+        assertThat(user.getEmail()).isEqualTo(EMAIL);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 이메일_반복_조회는_쿼리_캐시로_SQL_없음() {
+        userRepository.findByEmail(EMAIL).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+
+        assertThat(user.getId()).isEqualTo(userId);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 비품_반복_조회는_SQL_없음_수정하면_새_버전으로_교체() {
+        equipmentRepository.findById(equipmentId).orElseThrow();
+        statistics.clear();
+        Equipment cached = equipmentRepository.findById(equipmentId).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 엔티티 수정 → 커밋 시 캐시 항목도 증가한 version 으로 교체되므로 다음 조회도 SQL 없음
+        transactionTemplate.executeWithoutResult(status ->
+                equipmentRepository.findById(equipmentId).orElseThrow().increaseStock(5));
+        statistics.clear();
+        Equipment updated = equipmentRepository.findById(equipmentId).orElseThrow();
+
+        assertThat(updated.getVersion()).isEqualTo(cached.getVersion() + 1);
+        assertThat(updated.getStock()).isEqualTo(cached.getStock() + 5);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 벌크 UPDATE 는 영역을 비움 → 다음 조회는 DB 에서 새 version 을 읽음
+        transactionTemplate.executeWithoutResult(status -> equipmentRepository.decreaseStock(equipmentId, 1));
+        statistics.clear();
+        Equipment decreased = equipmentRepository.findById(equipmentId).orElseThrow();
+
+        assertThat(decreased.getVersion()).isEqualTo(updated.getVersion() + 1);
+        assertThat(decreased.getStock()).isEqualTo(updated.getStock() - 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 신청_항목_컬렉션은_캐시에서_초기화() {
+        transactionTemplate.executeWithoutResult(status -> touchItems());
+        statistics.clear();
+
+        int quantity = transactionTemplate.execute(status -> touchItems());
+
+        // 신청 행 조회 1번만 (항목 컬렉션 / 항목 / 비품은 캐시)
+        assertThat(quantity).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private int touchItems() {
+        EquipmentRequest request = requestRepository.findById(requestId).orElseThrow();
+        int quantity = 0;
+        for (RequestItem item : request.getItems()) {
+            item.getEquipment().getName();
+            quantity += item.getQuantity();
+        }
+        return quantity;
+    }
+
+    private void evictAll() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private Equipment equipment(String name) {
+        return Equipment.builder()
+                .name(name).category("laptop").stock(10).available(true)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import backend.domain.Equipment;
+import backend.domain.EquipmentRequest;
+import backend.domain.RequestItem;
+import backend.domain.User;
+import backend.repository.EquipmentRepository;
+import backend.repository.EquipmentRequestRepository;
+import backend.repository.RequestItemJdbcRepository;
+import backend.repository.UserRepository;
+import backend.service.EquipmentRequestService.BatchResult;
+import backend.service.EquipmentRequestService.BatchResult.Outcome;
+
+/**
+ * 일괄 승인 재고 차감 테스트 (리포지토리 mock)
+ * - 조회 시점 재고로 계획한 뒤 다른 트랜잭션이 재고를 줄여 차감 UPDATE 가 0건이 되는 경우를 흉내
+ * - 차감은 비품 id 순으로만 나가야 함 (단건 승인과 같은 잠금 순서)
+ */
+class EquipmentRequestBatchApprovalTest {
+
+    private final EquipmentRequestRepository requestRepository = mock(EquipmentRequestRepository.class);
+    private final EquipmentRepository equipmentRepository = mock(EquipmentRepository.class);
+    private final StockReservationEngine stockReservationEngine = mock(StockReservationEngine.class);
+
+    private EquipmentRequestService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new EquipmentRequestService(requestRepository, mock(UserRepository.class), equipmentRepository,
+                mock(RequestItemJdbcRepository.class), stockReservationEngine, mock(RequestSummaryService.class),
+                mock(ApprovalQueue.class), mock(ApplicationEventPublisher.class));
+        user = User.builder()
+                .email("user@test.com").password("pw").name("tester").role(User.UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    @Test
+    void 조회_후_재고가_줄면_넘치는_신청만_실패하고_차감한_수량은_되돌림() {
+        // 비품 id 가 큰 쪽을 먼저 담아도 차감은 id 순
+        Equipment monitor = equipment(20L, 10);
+        Equipment laptop = equipment(10L, 10);
+        EquipmentRequest older = request(100L, LocalDateTime.now().minusHours(2), monitor, 3, laptop, 2);
+        EquipmentRequest newer = request(101L, LocalDateTime.now().minusHours(1), monitor, 5, laptop, 1);
+        when(requestRepository.findAllByIdInWithItems(anyCollection())).thenReturn(List.of(older, newer));
+
+        // 노트북 3개 차감은 성공, 모니터 8개는 그 사이 재고가 4개로 줄어 0건 → 다시 나눈 3개는 성공
+        when(equipmentRepository.decreaseStock(10L, 3)).thenReturn(1);
+        when(equipmentRepository.decreaseStock(20L, 8)).thenReturn(0);
+        when(equipmentRepository.findStockById(20L)).thenReturn(Optional.of(4));
+        when(equipmentRepository.decreaseStock(20L, 3)).thenReturn(1);
+
+        List<BatchResult> results = service.approveAll(List.of(100L, 101L));
+
+        assertThat(results).extracting(BatchResult::getRequestId, BatchResult::getOutcome)
+                .containsExactly(tuple(100L, Outcome.SUCCESS), tuple(101L, Outcome.FAILED));
+        assertThat(older.getStatus()).isEqualTo(EquipmentRequest.RequestStatus.APPROVED);
+        assertThat(newer.getStatus()).isEqualTo(EquipmentRequest.RequestStatus.PENDING);
+
+        InOrder order = inOrder(equipmentRepository);
+        order.verify(equipmentRepository).decreaseStock(10L, 3);
+        order.verify(equipmentRepository).decreaseStock(20L, 8);
+        // 실패한 신청의 노트북 1개는 이미 차감했으므로 DB 에 되돌림
+        order.verify(equipmentRepository).increaseStock(10L, 1);
+        order.verify(equipmentRepository).decreaseStock(20L, 3);
+
+        // 카운터에는 실제로 차감된 수량만 확정
+        verify(stockReservationEngine).confirm(10L, 2);
+        verify(stockReservationEngine).confirm(20L, 3);
+    }
+
+    @Test
+    void 다시_읽은_뒤에도_재고가_또_바뀌면_그_비품의_신청은_모두_실패() {
+        Equipment laptop = equipment(10L, 10);
+        Equipment monitor = equipment(20L, 10);
+        EquipmentRequest request = request(100L, LocalDateTime.now(), laptop, 2, monitor, 2);
+        when(requestRepository.findAllByIdInWithItems(anyCollection())).thenReturn(List.of(request));
+
+        when(equipmentRepository.decreaseStock(10L, 2)).thenReturn(1);
+        when(equipmentRepository.decreaseStock(20L, 2)).thenReturn(0);
+        when(equipmentRepository.findStockById(20L)).thenReturn(Optional.of(5));
+
+        List<BatchResult> results = service.approveAll(List.of(100L));
+
+        assertThat(results).extracting(BatchResult::getOutcome).containsExactly(Outcome.FAILED);
+        verify(equipmentRepository).increaseStock(10L, 2);
+        verify(stockReservationEngine, never()).confirm(anyLong(), anyInt());
+    }
+
+    private static Equipment equipment(Long id, int stock) {
+        Equipment equipment = Equipment.builder()
+                .name("비품 " + id).category("laptop").stock(stock).available(true)
+                .build();
+        ReflectionTestUtils.setField(equipment, "id", id);
+        return equipment;
+    }
+
+    private EquipmentRequest request(Long id, LocalDateTime createdAt,
+                                     Equipment first, int firstQuantity, Equipment second, int secondQuantity) {
+        EquipmentRequest request = EquipmentRequest.builder()
+                .user(user).status(EquipmentRequest.RequestStatus.PENDING)
+                .build();
+        request.addItem(RequestItem.builder().equipment(first).quantity(firstQuantity).build());
+        request.addItem(RequestItem.builder().equipment(second).quantity(secondQuantity).build());
+        ReflectionTestUtils.setField(request, "id", id);
+        ReflectionTestUtils.setField(request, "createdAt", createdAt);
+        return request;
+    }
+}
@@ -0,0 +1,125 @@
+package backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import backend.domain.Equipment;
+import backend.domain.EquipmentRequest;
+import backend.domain.RequestItem;
+import backend.domain.User;
+import backend.repository.RequestItemJdbcRepository;
+import backend.repository.RequestListRow;
+import backend.service.EquipmentRequestService.RequestPage;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({EquipmentRequestService.class, StockReservationEngine.class, RequestItemJdbcRepository.class,
+        RequestSummaryService.class, ApprovalQueue.class})
+class EquipmentRequestServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EquipmentRequestService requestService;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        user = em.persist(User.builder()
+                .email("user@test.com").password("pw").name("tester").role(User.UserRole.USER)
+                .build());
+
+        List<Equipment> equipment = List.of(
+                em.persist(equipment("MacBook Pro 14")),
+                em.persist(equipment("LG 27인치 4K 모니터")),
+                em.persist(equipment("로지텍 MX Master 3")));
+
+        // 신청 10건 x 항목 3개
+        for (int i = 0; i < 10; i++) {
+            EquipmentRequest request = EquipmentRequest.builder()
+                    .user(user)
+                    .status(EquipmentRequest.RequestStatus.PENDING)
+                    .build();
+            for (Equipment e : equipment) {
+                request.addItem(RequestItem.builder().equipment(e).quantity(1).build());
+            }
+            em.persist(request);
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findMyRequests_페이지_조회는_쿼리_2번_엔티티_없음() {
+        List<RequestListRow> page = requestService.findMyRequests(user.getId(), PageRequest.of(0, 4));
+
+        // 신청 4건 x 항목 3개 = 12행
+        assertThat(page).hasSize(12);
+        assertThat(page.stream().map(RequestListRow::requestId).distinct()).hasSize(4);
+        assertThat(page).allSatisfy(row -> assertThat(row.equipmentName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findPage_관리자_페이지는_커서로_끝까지_중복_없이_조회() {
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        int pages = 0;
+        RequestPage page;
+        do {
+            page = requestService.findPage(null, null, null, cursorCreatedAt, cursorId, 4);
+            List<Long> ids = page.getContent().stream().map(RequestListRow::requestId).distinct().toList();
+            seen.addAll(ids);
+            RequestListRow last = page.getContent().get(page.getContent().size() - 1);
+            cursorCreatedAt = last.createdAt();
+            cursorId = last.requestId();
+            pages++;
+        } while (page.isHasNext());
+
+        // 신청 10건을 4 / 4 / 2 건으로, 페이지마다 id 조회 + 행 조회 2번
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(10).doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void countByStatus_상태별_건수() {
+        assertThat(requestService.countByStatus())
+                .containsEntry(EquipmentRequest.RequestStatus.PENDING, 10L)
+                .containsEntry(EquipmentRequest.RequestStatus.APPROVED, 0L)
+                .containsEntry(EquipmentRequest.RequestStatus.REJECTED, 0L);
+    }
+
+    private Equipment equipment(String name) {
+        return Equipment.builder()
+                .name(name).category("laptop").stock(10).available(true)
+                .build();
+    }
+}
@@ -0,0 +1,181 @@
+package backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import backend.domain.RefreshTokenFamily;
+import backend.domain.User;
+import backend.repository.RefreshTokenFamilyRepository;
+import backend.service.RefreshTokenService.TokenPair;
+import backend.util.JwtUtil;
+
+/**
+ * 리프레시 토큰 회전 / 재사용 감지 테스트
+ * - DB 는 비어 있는 리포지토리 mock: 메모리에서 정리된 family 는 복원되지 않으므로 "정리됐는지"를 회전 결과로 확인
+ * - 저장 스레드(refresh-token-persist)의 DB 반영은 writeGate 로 붙잡아 "저장 대기 중" 상태를 만듦
+ * - 재시작 후 복원은 map 으로 흉내 낸 DB 를 같은 리포지토리로 쓰는 새 인스턴스로 확인
+ */
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = "test-secret-key-for-refresh-token-rotation-0123456789";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 600_000);
+    private final RefreshTokenFamilyRepository familyRepository = mock(RefreshTokenFamilyRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final User user = user();
+
+    private CountDownLatch writeGate = new CountDownLatch(0);
+    private RefreshTokenService service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeGate.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void 회전하면_새_토큰만_유효() {
+        service = newService(100);
+        String first = service.issue(user);
+
+        TokenPair rotated = service.rotate(first).orElseThrow();
+
+        assertThat(rotated.getAccessToken()).isNotBlank();
+        assertThat(service.rotate(rotated.getRefreshToken())).isPresent();
+    }
+
+    @Test
+    void 이전_토큰을_다시_쓰면_family_전체_폐기() {
+        service = newService(100);
+        String first = service.issue(user);
+        TokenPair second = service.rotate(first).orElseThrow();
+
+        // 이미 회전된 토큰 재사용 → 거절 + 폐기
+        assertThat(service.rotate(first)).isEmpty();
+
+        // 정상 사용자가 가진 최신 토큰도 더 이상 쓸 수 없음
+        assertThat(service.rotate(second.getRefreshToken())).isEmpty();
+    }
+
+    @Test
+    void 위조된_토큰은_거절() {
+        service = newService(100);
+        String token = service.issue(user);
+
+        assertThat(service.rotate(token + "x")).isEmpty();
+        assertThat(service.rotate("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    void 저장_대기_중인_family_는_메모리에서_정리하지_않음() throws InterruptedException {
+        writeGate = new CountDownLatch(1);
+        service = newService(1);
+
+        String pending = service.issue(user);
+        service.issue(user); // 가득 참 → 정리 시도, 하지만 앞 family 는 아직 DB 에 없음
+
+        // 정리됐다면 DB(빈 mock) 에서 찾지 못해 거절됐을 것
+        TokenPair rotated = service.rotate(pending).orElseThrow();
+
+        // 저장이 모두 끝난 뒤에는 다시 정리 대상
+        writeGate.countDown();
+        service.shutdown();
+        service.issue(user);
+        assertThat(service.rotate(rotated.getRefreshToken())).isEmpty();
+    }
+
+    @Test
+    void 회전과_재사용이_동시에_와도_DB_에는_폐기_상태가_남음() throws Exception {
+        Map<String, RefreshTokenFamily> database = new ConcurrentHashMap<>();
+        stubDatabase(database);
+        service = new RefreshTokenService(jwtUtil, familyRepository, transactionTemplate, 10_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int n = 0; n < 200; n++) {
+                String stolen = service.issue(user);
+                String latest = service.rotate(stolen).orElseThrow().getRefreshToken();
+
+                // 정상 사용자의 회전과 공격자의 이전 토큰 재사용이 경합 → 어느 쪽이 먼저든 family 는 폐기
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Optional<TokenPair>> legitimate = executor.submit(() -> {
+                    start.await();
+                    return service.rotate(latest);
+                });
+                Future<Optional<TokenPair>> reuse = executor.submit(() -> {
+                    start.await();
+                    return service.rotate(stolen);
+                });
+                start.countDown();
+                Optional<TokenPair> rotated = legitimate.get();
+                assertThat(reuse.get()).isEmpty();
+
+                // 저장이 모두 끝난 뒤 메모리 없이 DB 에서 복원해도 폐기 상태
+                RefreshTokenService restarted = new RefreshTokenService(jwtUtil, familyRepository, transactionTemplate, 10_000);
+                drain();
+                assertThat(restarted.rotate(latest)).isEmpty();
+                rotated.ifPresent(pair -> assertThat(restarted.rotate(pair.getRefreshToken())).isEmpty());
+                restarted.shutdown();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(database.values()).allMatch(RefreshTokenFamily::isRevoked);
+    }
+
+    // 저장 스레드는 1개 → 빈 작업 하나가 실행되면 앞서 넣은 저장은 모두 끝난 것
+    private void drain() throws Exception {
+        ThreadPoolExecutor persistExecutor = (ThreadPoolExecutor) ReflectionTestUtils.getField(service, "persistExecutor");
+        persistExecutor.submit(() -> { }).get();
+    }
+
+    private void stubDatabase(Map<String, RefreshTokenFamily> database) {
+        when(familyRepository.findByFamilyId(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(database.get(invocation.<String>getArgument(0))));
+        when(familyRepository.save(any(RefreshTokenFamily.class))).thenAnswer(invocation -> {
+            RefreshTokenFamily family = invocation.getArgument(0);
+            if (database.putIfAbsent(family.getFamilyId(), family) != null) {
+                throw new IllegalStateException("family_id 중복 INSERT: " + family.getFamilyId());
+            }
+            return family;
+        });
+    }
+
+    private RefreshTokenService newService(int maxSize) {
+        when(familyRepository.findByFamilyId(anyString())).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals("refresh-token-persist")) {
+                writeGate.await();
+            }
+            return Optional.empty();
+        });
+        return new RefreshTokenService(jwtUtil, familyRepository, transactionTemplate, maxSize);
+    }
+
+    private static User user() {
+        User user = User.builder()
+                .email("user@test.com").password("pw").name("tester").role(User.UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
@@ -0,0 +1,229 @@
+package backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import backend.domain.Equipment;
+import backend.repository.EquipmentRepository;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * S3 업로드 경로 테스트 (MinIO 컨테이너, Docker 가 없으면 건너뜀)
+ * - 단일 PUT / multipart 업로드 결과가 원본과 같은지
+ * - 동시 업로드 한도를 넘으면 503 + Retry-After
+ * - 업로드 후 DB 저장이 실패하거나 multipart 중간에 실패하면 버킷에 남는 객체가 없는지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3ServiceMinioTest {
+
+    private static final String REGION = "ap-northeast-2";
+
+    @Container
+    private static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private S3Client s3Client;
+    private String bucket;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = S3Client.builder()
+                .region(Region.of(REGION))
+                .endpointOverride(URI.create(MINIO.getS3URL()))
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword())))
+                .build();
+        bucket = "test-" + UUID.randomUUID();
+        s3Client.createBucket(request -> request.bucket(bucket));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+    }
+
+    @Test
+    void 업로드한_파일을_그대로_읽고_삭제할_수_있음() throws IOException {
+        S3Service s3Service = newService(8, 3000);
+        byte[] content = randomBytes(64 * 1024);
+
+        String url = s3Service.uploadFile(new MockMultipartFile("file", "photo.png", "image/png", content));
+
+        assertThat(url).startsWith(MINIO.getS3URL() + "/" + bucket + "/").endsWith(".png");
+        assertThat(s3Service.getObject(s3Service.keyOf(url))).hasValueSatisfying(bytes -> assertThat(bytes).isEqualTo(content));
+
+        s3Service.deleteFile(url);
+        assertThat(s3Service.getObject(s3Service.keyOf(url))).isEmpty();
+    }
+
+    @Test
+    void 큰_파일은_multipart_로_올려도_원본과_같음() throws IOException {
+        S3Service s3Service = newService(8, 3000);
+        byte[] content = randomBytes(S3Service.PART_SIZE + 1024 * 1024); // 파트 2개
+
+        String url = s3Service.uploadFile(new MockMultipartFile("file", "large.png", "image/png", content));
+
+        assertThat(s3Service.getObject(s3Service.keyOf(url))).hasValueSatisfying(bytes -> assertThat(bytes).isEqualTo(content));
+    }
+
+    @Test
+    void 동시_업로드_한도를_넘으면_503_과_Retry_After() throws Exception {
+        S3Service s3Service = newService(1, 200);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        byte[] content = randomBytes(1024);
+
+        // 첫 업로드는 본문을 보내는 도중에 붙잡아 둠 (허가 1개 점유)
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return s3Service.uploadFile(streaming("slow.png", content, 0, reading, release));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> s3Service.uploadFile(new MockMultipartFile("file", "next.png", "image/png", content)))
+                    .isInstanceOfSatisfying(ServiceBusyException.class, e -> {
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                        assertThat(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                    });
+        } finally {
+            release.countDown();
+        }
+
+        // 붙잡았던 업로드는 정상 완료, 허가가 반환되어 다음 업로드도 성공
+        assertThat(first.get(10, TimeUnit.SECONDS)).startsWith(MINIO.getS3URL());
+        assertThat(s3Service.uploadFile(new MockMultipartFile("file", "after.png", "image/png", content))).isNotNull();
+    }
+
+    @Test
+    void DB_저장이_실패하면_올린_이미지를_삭제() {
+        S3Service s3Service = newService(8, 3000);
+        EquipmentRepository equipmentRepository = mock(EquipmentRepository.class);
+        when(equipmentRepository.save(any(Equipment.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        EquipmentService equipmentService = new EquipmentService(equipmentRepository, s3Service,
+                mock(ImageDerivativeService.class), mock(StockReservationEngine.class), mock(EquipmentSearchIndex.class),
+                mock(ApplicationEventPublisher.class), new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+        MultipartFile image = new MockMultipartFile("file", "photo.png", "image/png", randomBytes(1024));
+        assertThatThrownBy(() -> equipmentService.create("MacBook Pro 14", "설명", "laptop", image, 1, true))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(objectKeys()).isEmpty();
+    }
+
+    @Test
+    void multipart_업로드_중간에_실패하면_abort_로_파트까지_정리() {
+        S3Client client = spy(s3Client);
+        S3Service s3Service = new S3Service(client, bucket, REGION, MINIO.getS3URL(), 8, 3000, S3Service.PART_SIZE);
+        byte[] content = randomBytes(S3Service.PART_SIZE + 1024 * 1024);
+
+        // 첫 파트를 보낸 뒤 두 번째 파트를 읽다가 실패
+        MultipartFile broken = streaming("broken.png", content, S3Service.PART_SIZE, null, null);
+        assertThatThrownBy(() -> s3Service.uploadFile(broken)).isInstanceOf(RuntimeException.class);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(client).abortMultipartUpload(abort.capture());
+        String key = abort.getValue().key();
+
+        assertThat(objectKeys()).isEmpty();
+        assertThat(s3Client.listMultipartUploads(request -> request.bucket(bucket).prefix(key)).uploads()).isEmpty();
+    }
+
+    private S3Service newService(int maxConcurrentUploads, long acquireTimeoutMs) {
+        return new S3Service(s3Client, bucket, REGION, MINIO.getS3URL(), maxConcurrentUploads, acquireTimeoutMs,
+                S3Service.PART_SIZE);
+    }
+
+    private List<String> objectKeys() {
+        return s3Client.listObjectsV2(request -> request.bucket(bucket)).contents().stream()
+                .map(S3Object::key)
+                .toList();
+    }
+
+    /**
+     * 본문을 스트림으로 내주는 업로드 파일
+     * - failAfter > 0: 그만큼 읽은 뒤 IOException
+     * - reading / release: 첫 읽기에서 reading 을 내리고 release 까지 대기
+     */
+    private static MultipartFile streaming(String name, byte[] content, int failAfter,
+                                           CountDownLatch reading, CountDownLatch release) {
+        return new MockMultipartFile("file", name, "image/png", content) {
+            @Override
+            public InputStream getInputStream() {
+                return new FilterInputStream(new ByteArrayInputStream(content)) {
+                    private int read;
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        if (reading != null) {
+                            reading.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new IOException(e);
+                            }
+                        }
+                        if (failAfter > 0 && read >= failAfter) {
+                            throw new IOException("연결 끊김");
+                        }
+                        int limit = failAfter > 0 ? Math.min(length, failAfter - read) : length;
+                        int n = super.read(buffer, offset, limit);
+                        if (n > 0) {
+                            read += n;
+                        }
+                        return n;
+                    }
+                };
+            }
+        };
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,157 @@
+package backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import backend.repository.EquipmentRepository;
+import backend.repository.RequestItemRepository;
+
+/**
+ * 재고 예약 카운터 동시성 테스트
+ * - DB 는 커밋된 재고/PENDING 합계만 들고 있는 값으로 흉내 내고, 트랜잭션 동기화 콜백은 직접 실행
+ * - 신청(커밋/롤백)과 관리자 재고 수정(invalidate)이 섞여도 모두 끝난 뒤 신청 가능 재고가 DB 와 같아야 함
+ */
+class StockReservationEngineTest {
+
+    private static final Long EQUIPMENT_ID = 1L;
+
+    private final AtomicInteger stock = new AtomicInteger(); // 커밋된 재고
+    private final AtomicLong pending = new AtomicLong();     // 커밋된 PENDING 수량 합계
+
+    private StockReservationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        EquipmentRepository equipmentRepository = mock(EquipmentRepository.class);
+        RequestItemRepository requestItemRepository = mock(RequestItemRepository.class);
+        when(equipmentRepository.findStockById(EQUIPMENT_ID)).thenAnswer(invocation -> Optional.of(stock.get()));
+        when(requestItemRepository.sumQuantityByEquipmentIdAndStatus(eq(EQUIPMENT_ID), any()))
+                .thenAnswer(invocation -> pending.get());
+        engine = new StockReservationEngine(equipmentRepository, requestItemRepository);
+    }
+
+    @Test
+    void 예약_롤백_무효화가_섞여도_신청_가능_재고는_DB_와_같음() throws Exception {
+        stock.set(5_000);
+        int workers = 8;
+        int iterations = 300;
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int n = 0; n < iterations; n++) {
+                    int quantity = random.nextInt(1, 4);
+                    boolean commit = random.nextBoolean();
+                    inTransaction(commit, () -> engine.reserve(EQUIPMENT_ID, quantity),
+                            () -> pending.addAndGet(quantity));
+                    if (n % 10 == 0) {
+                        engine.getStock(EQUIPMENT_ID); // 무효화된 카운터를 다시 만들게 함
+                    }
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            for (int n = 0; n < iterations; n++) {
+                inTransaction(true, () -> engine.invalidate(EQUIPMENT_ID), () -> stock.incrementAndGet());
+                Thread.yield();
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        int available = (int) (stock.get() - pending.get());
+        assertThat(engine.getStock(EQUIPMENT_ID)).isEqualTo(stock.get());
+
+        // 남은 수량만큼은 예약되고 1개 더는 안 됨
+        engine.reserve(EQUIPMENT_ID, available);
+        assertThatThrownBy(() -> engine.reserve(EQUIPMENT_ID, 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 진행_중인_예약이_있으면_끝날_때까지_카운터를_다시_만들지_않음() {
+        stock.set(10);
+
+        // 예약 트랜잭션 시작 (동기화 콜백만 떼어 두고 아직 끝내지 않음)
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> reservation;
+        try {
+            engine.reserve(EQUIPMENT_ID, 4);
+            reservation = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // 그 사이 관리자가 재고 +5 (트랜잭션 밖 호출이라 바로 무효화) → 기존 카운터 유지
+        stock.addAndGet(5);
+        engine.invalidate(EQUIPMENT_ID);
+        assertThat(engine.getStock(EQUIPMENT_ID)).isEqualTo(10);
+
+        // 예약 커밋이 끝난 뒤에야 DB 기준 (재고 15, 예약 4) 으로 다시 만듦
+        pending.addAndGet(4);
+        complete(reservation, true);
+
+        assertThat(engine.getStock(EQUIPMENT_ID)).isEqualTo(15);
+        engine.reserve(EQUIPMENT_ID, 11);
+        assertThatThrownBy(() -> engine.reserve(EQUIPMENT_ID, 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // 트랜잭션 흉내: 재고 부족 예외는 롤백으로 처리, 커밋이면 DB 반영 후 동기화 콜백 실행
+    private static void inTransaction(boolean commit, Runnable work, Runnable onCommit) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            boolean committed = commit;
+            try {
+                work.run();
+            } catch (IllegalStateException e) {
+                committed = false;
+            }
+            if (committed) {
+                onCommit.run();
+            }
+            complete(TransactionSynchronizationManager.getSynchronizations(), committed);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, boolean committed) {
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        int status = committed ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -1,8 +1,12 @@
 import { Outlet } from "react-router";
 import Footer from "./Footer";
 import Header from "./Header";
+import { useLiveUpdates } from "@/lib/liveUpdates";
 
 export default function BasicLayout() {
+  // 비품 재고 / 신청 상태 실시간 반영 (화면별 주기 조회 대신)
+  useLiveUpdates();
+
   return (
     <div className="bg-neutral-100 text-neutral-700 min-h-screen flex flex-col text-sm">
       <Header />
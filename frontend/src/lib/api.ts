@@ -1,4 +1,5 @@
-import axios from "axios";
+import axios, { type AxiosError, type InternalAxiosRequestConfig } from "axios";
+import { useAuthStore } from "@/stores/authStore";
 
 // 환경변수에서 API URL 가져오기
 // 개발: /api (Vite proxy)
@@ -27,10 +28,47 @@ api.interceptors.request.use(
   }
 );
 
+// 동시에 여러 요청이 401 을 받아도 갱신 요청은 한 번만 보냄
+// (리프레시 토큰은 회전되므로 같은 토큰으로 두 번 갱신하면 재사용으로 판단되어 폐기됨)
+let refreshing: Promise<string | null> | null = null;
+
+function refreshAccessToken(): Promise<string | null> {
+  const { refreshToken, updateToken } = useAuthStore.getState();
+  if (!refreshToken) {
+    return Promise.resolve(null);
+  }
+  if (!refreshing) {
+    refreshing = axios
+      .post(`${api.defaults.baseURL}/auth/refresh`, { refreshToken })
+      .then(({ data }) => {
+        updateToken(data.accessToken, data.refreshToken);
+        return data.accessToken as string;
+      })
+      .catch(() => null)
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+}
+
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
+  async (error: AxiosError) => {
+    const original = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+    const isAuthRequest = original?.url?.startsWith("/auth/");
+
+    if (error.response?.status === 401 && original && !original._retried && !isAuthRequest) {
+      original._retried = true;
+      const accessToken = await refreshAccessToken();
+      if (accessToken) {
+        original.headers.Authorization = `Bearer ${accessToken}`;
+        return api(original);
+      }
+    }
+
+    if (error.response?.status === 401 && !isAuthRequest) {
+      useAuthStore.getState().logout();
       window.location.href = "/login";
     }
     return Promise.reject(error);
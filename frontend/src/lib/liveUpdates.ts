@@ -0,0 +1,159 @@
+import { useEffect } from "react";
+import { useQueryClient, type QueryClient } from "@tanstack/react-query";
+import { useAuthStore } from "@/stores/authStore";
+import type { Equipment } from "@/types";
+
+// 서버 푸시 (GET /api/stream)
+// - 비품 변경: react-query 의 ["equipments"] 캐시를 직접 고침 → 목록 화면은 다시 조회하지 않음
+// - 신청 상태 변경: 본인 신청 (관리자는 전체)
+// - EventSource 는 Authorization 헤더를 못 붙이므로 fetch 로 직접 읽음
+
+const baseURL = import.meta.env.VITE_API_URL || "/api";
+
+export interface EquipmentDelta {
+  id: number;
+  name: string | null;
+  category: string | null;
+  stock: number | null;
+  available: boolean | null;
+  deleted: boolean;
+}
+
+export interface RequestStatusEvent {
+  id: number;
+  requestId: number;
+  userId: number;
+  fromStatus: "PENDING" | "APPROVED" | "REJECTED" | null;
+  toStatus: "PENDING" | "APPROVED" | "REJECTED";
+  createdAt: string;
+}
+
+// react-query 를 쓰지 않는 화면은 window 이벤트로 받음
+export const LIVE_EQUIPMENT = "live:equipment";
+export const LIVE_REQUEST_STATUS = "live:request-status";
+export const LIVE_RESYNC = "live:resync";
+
+const MAX_BACKOFF_MS = 30000;
+
+function applyEquipment(queryClient: QueryClient, delta: EquipmentDelta) {
+  let known = false;
+  queryClient.setQueryData<Equipment[]>(["equipments"], (list) => {
+    if (!list) return list;
+    known = list.some((equipment) => equipment.id === delta.id);
+    if (delta.deleted) {
+      return list.filter((equipment) => equipment.id !== delta.id);
+    }
+    return list.map((equipment) =>
+      equipment.id === delta.id
+        ? {
+            ...equipment,
+            name: delta.name ?? equipment.name,
+            category: delta.category ?? equipment.category,
+            stock: delta.stock ?? equipment.stock,
+            available: delta.available ?? equipment.available,
+          }
+        : equipment
+    );
+  });
+
+  // 목록에 없던 비품 (새로 등록됨) → 설명/이미지가 없으므로 한 번 다시 조회
+  if (!known && !delta.deleted && queryClient.getQueryData(["equipments"])) {
+    queryClient.invalidateQueries({ queryKey: ["equipments"] });
+  }
+  window.dispatchEvent(new CustomEvent(LIVE_EQUIPMENT, { detail: delta }));
+}
+
+// 연결이 끊긴 동안이나 서버 버퍼가 넘친 동안의 변경은 알 수 없으므로 전부 다시 조회
+function resync(queryClient: QueryClient) {
+  queryClient.invalidateQueries({ queryKey: ["equipments"] });
+  window.dispatchEvent(new CustomEvent(LIVE_RESYNC));
+}
+
+function dispatch(queryClient: QueryClient, event: string, data: string) {
+  switch (event) {
+    case "equipment":
+      applyEquipment(queryClient, JSON.parse(data));
+      break;
+    case "request-status":
+      window.dispatchEvent(new CustomEvent(LIVE_REQUEST_STATUS, { detail: JSON.parse(data) }));
+      break;
+    case "resync":
+      resync(queryClient);
+      break;
+  }
+}
+
+// text/event-stream 파싱: 빈 줄로 끝나는 블록 하나가 이벤트 하나, ':' 로 시작하는 줄(heartbeat)은 무시
+async function readEvents(body: ReadableStream<Uint8Array>, onEvent: (event: string, data: string) => void) {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = "";
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffer += value.replace(/\r\n?/g, "\n");
+
+    let end;
+    while ((end = buffer.indexOf("\n\n")) >= 0) {
+      const block = buffer.slice(0, end);
+      buffer = buffer.slice(end + 2);
+
+      let event = "message";
+      const data: string[] = [];
+      for (const line of block.split("\n")) {
+        if (line.startsWith("event:")) event = line.slice(6).trim();
+        else if (line.startsWith("data:")) data.push(line.slice(5).replace(/^ /, ""));
+      }
+      if (data.length > 0) onEvent(event, data.join("\n"));
+    }
+  }
+}
+
+function sleep(ms: number, signal: AbortSignal) {
+  return new Promise<void>((resolve) => {
+    const timer = setTimeout(resolve, ms);
+    signal.addEventListener("abort", () => {
+      clearTimeout(timer);
+      resolve();
+    });
+  });
+}
+
+async function listen(queryClient: QueryClient, accessToken: string | null, signal: AbortSignal) {
+  let attempt = 0;
+  let connectedBefore = false;
+
+  while (!signal.aborted) {
+    try {
+      const headers: Record<string, string> = { Accept: "text/event-stream" };
+      if (accessToken) headers.Authorization = `Bearer ${accessToken}`;
+
+      const response = await fetch(`${baseURL}/stream`, { headers, signal });
+      if (!response.ok || !response.body) {
+        throw new Error(`stream ${response.status}`);
+      }
+      if (connectedBefore) resync(queryClient);
+      connectedBefore = true;
+      attempt = 0;
+
+      await readEvents(response.body, (event, data) => dispatch(queryClient, event, data));
+    } catch {
+      if (signal.aborted) return;
+    }
+    // 서버 재시작 등으로 한꺼번에 끊겼을 때 동시에 재연결하지 않도록 지수 백오프 + 지터
+    attempt++;
+    const backoff = Math.min(MAX_BACKOFF_MS, 1000 * 2 ** attempt);
+    await sleep(backoff / 2 + Math.random() * (backoff / 2), signal);
+  }
+}
+
+// 레이아웃에서 한 번만 호출 (토큰이 바뀌면 새 권한으로 다시 연결)
+export function useLiveUpdates() {
+  const queryClient = useQueryClient();
+  const accessToken = useAuthStore((state) => state.accessToken);
+
+  useEffect(() => {
+    const controller = new AbortController();
+    listen(queryClient, accessToken, controller.signal);
+    return () => controller.abort();
+  }, [queryClient, accessToken]);
+}
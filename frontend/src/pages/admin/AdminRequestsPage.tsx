@@ -8,6 +8,7 @@ import { Button } from "@/components/ui/button";
 import { toast } from "sonner";
 import { ConfirmButton } from "@/components/ui/alert-dialog";
 import { useTranslation } from "react-i18next";
+import { LIVE_REQUEST_STATUS, LIVE_RESYNC, type RequestStatusEvent } from "@/lib/liveUpdates";
 
 interface RequestItem {
   id: number;
@@ -27,11 +28,30 @@ interface Request {
   rejectReason?: string;
 }
 
+interface RequestPage {
+  content: Request[];
+  hasNext: boolean;
+  nextCursorCreatedAt: string | null;
+  nextCursorId: number | null;
+}
+
+interface StatusCounts {
+  pending: number;
+  approved: number;
+  rejected: number;
+}
+
+// 목록은 키셋 페이지로 나눠 읽음 (전체를 한 번에 받지 않음)
+const PAGE_SIZE = 50;
+
 export default function AdminRequestsPage() {
   const navigate = useNavigate();
   const { t, i18n } = useTranslation();
   const { user } = useAuthStore();
   const [requests, setRequests] = useState<Request[]>([]);
+  const [stats, setStats] = useState<StatusCounts>({ pending: 0, approved: 0, rejected: 0 });
+  const [cursor, setCursor] = useState<{ createdAt: string; id: number } | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
   const [rejectingId, setRejectingId] = useState<number | null>(null);
@@ -47,10 +67,62 @@ export default function AdminRequestsPage() {
     fetchRequests();
   }, [user, navigate, t]);
 
+  // 새 신청 / 다른 관리자·자동 승인의 처리 실시간 반영
+  useEffect(() => {
+    const onStatus = (e: Event) => {
+      const event = (e as CustomEvent<RequestStatusEvent>).detail;
+      if (event.fromStatus === null) {
+        // 새 신청은 항목/신청자 정보가 없으므로 목록 다시 조회
+        fetchRequests();
+        return;
+      }
+      setRequests((prev) =>
+        prev.map((request) =>
+          request.id === event.requestId ? { ...request, status: event.toStatus } : request
+        )
+      );
+      fetchStats();
+    };
+    const onResync = () => fetchRequests();
+    window.addEventListener(LIVE_REQUEST_STATUS, onStatus);
+    window.addEventListener(LIVE_RESYNC, onResync);
+    return () => {
+      window.removeEventListener(LIVE_REQUEST_STATUS, onStatus);
+      window.removeEventListener(LIVE_RESYNC, onResync);
+    };
+  }, []);
+
+  const fetchPage = (next: { createdAt: string; id: number } | null) =>
+    api.get<RequestPage>("/requests/admin/page", {
+      params: {
+        size: PAGE_SIZE,
+        cursorCreatedAt: next?.createdAt,
+        cursorId: next?.id,
+      },
+    });
+
+  const applyPage = (page: RequestPage) =>
+    setCursor(
+      page.hasNext && page.nextCursorCreatedAt && page.nextCursorId !== null
+        ? { createdAt: page.nextCursorCreatedAt, id: page.nextCursorId }
+        : null
+    );
+
+  const fetchStats = async () => {
+    try {
+      const response = await api.get<StatusCounts>("/requests/admin/stats");
+      setStats(response.data);
+    } catch {
+      // 통계는 목록 표시와 무관하므로 실패해도 그대로 둠
+    }
+  };
+
+  // 첫 페이지부터 다시 조회
   const fetchRequests = async () => {
     try {
-      const response = await api.get("/requests/admin/all");
-      setRequests(response.data);
+      const [response] = await Promise.all([fetchPage(null), fetchStats()]);
+      setRequests(response.data.content);
+      applyPage(response.data);
     } catch (err: unknown) {
       if (axios.isAxiosError(err)) {
         setError(err.response?.data?.message || t("requests.failedToLoad"));
@@ -62,11 +134,44 @@ export default function AdminRequestsPage() {
     }
   };
 
+  const loadMore = async () => {
+    if (!cursor || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const response = await fetchPage(cursor);
+      setRequests((prev) => {
+        const known = new Set(prev.map((request) => request.id));
+        return [...prev, ...response.data.content.filter((request) => !known.has(request.id))];
+      });
+      applyPage(response.data);
+    } catch (err: unknown) {
+      if (axios.isAxiosError(err)) {
+        toast.error(err.response?.data?.message || t("requests.failedToLoad"));
+      } else {
+        toast.error(t("auth.unknownError"));
+      }
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // 처리한 신청만 고치고 통계를 다시 조회 (이미 불러온 다음 페이지들은 유지)
+  const markProcessed = (requestId: number, status: Request["status"], reason?: string) => {
+    setRequests((prev) =>
+      prev.map((request) =>
+        request.id === requestId
+          ? { ...request, status, processedAt: new Date().toISOString(), rejectReason: reason }
+          : request
+      )
+    );
+    fetchStats();
+  };
+
   const handleApprove = async (requestId: number) => {
     try {
       await api.post(`/requests/admin/${requestId}/approve`);
       toast.success(t("admin.requests.approved"));
-      fetchRequests();
+      markProcessed(requestId, "APPROVED");
     } catch (err: unknown) {
       if (axios.isAxiosError(err)) {
         toast.error(
@@ -89,9 +194,9 @@ export default function AdminRequestsPage() {
         reason: rejectReason,
       });
       toast.success(t("admin.requests.rejected"));
+      markProcessed(requestId, "REJECTED", rejectReason);
       setRejectingId(null);
       setRejectReason("");
-      fetchRequests();
     } catch (err: unknown) {
       if (axios.isAxiosError(err)) {
         toast.error(
@@ -141,12 +246,6 @@ export default function AdminRequestsPage() {
     });
   };
 
-  const stats = {
-    pending: requests.filter((r) => r.status === "PENDING").length,
-    approved: requests.filter((r) => r.status === "APPROVED").length,
-    rejected: requests.filter((r) => r.status === "REJECTED").length,
-  };
-
   if (loading) {
     return <Loading />;
   }
@@ -218,123 +317,129 @@ export default function AdminRequestsPage() {
         </div>
       ) : (
         <div className="space-y-4">
-          {requests
-            .sort(
-              (a, b) =>
-                new Date(b.createdAt).getTime() -
-                new Date(a.createdAt).getTime()
-            )
-            .map((request) => (
-              <div
-                key={request.id}
-                className="bg-white rounded-sm border border-neutral-200 shadow-sm overflow-hidden"
-              >
-                {/* 헤더 */}
-                <div className="flex items-center justify-between p-4 border-b border-neutral-200 bg-neutral-50">
-                  <div className="flex items-center gap-4">
-                    <span className="text-sm text-neutral-600">
-                      {t("admin.requests.applicant")}:{" "}
-                      <span className="font-medium">{request.userName}</span>
-                    </span>
+          {/* 서버가 최신순(createdAt, id 내림차순)으로 보냄 */}
+          {requests.map((request) => (
+            <div
+              key={request.id}
+              className="bg-white rounded-sm border border-neutral-200 shadow-sm overflow-hidden"
+            >
+              {/* 헤더 */}
+              <div className="flex items-center justify-between p-4 border-b border-neutral-200 bg-neutral-50">
+                <div className="flex items-center gap-4">
+                  <span className="text-sm text-neutral-600">
+                    {t("admin.requests.applicant")}:{" "}
+                    <span className="font-medium">{request.userName}</span>
+                  </span>
+                  <span className="text-sm text-neutral-600">
+                    {t("requests.requestDate")}:{" "}
+                    {formatDate(request.createdAt)}
+                  </span>
+                  {request.processedAt && (
                     <span className="text-sm text-neutral-600">
-                      {t("requests.requestDate")}:{" "}
-                      {formatDate(request.createdAt)}
+                      {t("requests.processedDate")}:{" "}
+                      {formatDate(request.processedAt)}
                     </span>
-                    {request.processedAt && (
-                      <span className="text-sm text-neutral-600">
-                        {t("requests.processedDate")}:{" "}
-                        {formatDate(request.processedAt)}
+                  )}
+                </div>
+                {getStatusBadge(request.status)}
+              </div>
+
+              {/* 비품 목록 */}
+              <div className="p-4">
+                <div className="space-y-2 mb-4">
+                  {request.items.map((item) => (
+                    <div
+                      key={item.id}
+                      className="flex items-center justify-between text-sm"
+                    >
+                      <span className="text-neutral-700 font-medium">
+                        {item.equipmentName}
                       </span>
-                    )}
-                  </div>
-                  {getStatusBadge(request.status)}
+                      <span className="text-neutral-600">
+                        {t("equipment.stockCount", { count: item.quantity })}
+                      </span>
+                    </div>
+                  ))}
                 </div>
 
-                {/* 비품 목록 */}
-                <div className="p-4">
-                  <div className="space-y-2 mb-4">
-                    {request.items.map((item) => (
-                      <div
-                        key={item.id}
-                        className="flex items-center justify-between text-sm"
-                      >
-                        <span className="text-neutral-700 font-medium">
-                          {item.equipmentName}
-                        </span>
-                        <span className="text-neutral-600">
-                          {t("equipment.stockCount", { count: item.quantity })}
-                        </span>
-                      </div>
-                    ))}
+                {/* 반려 사유 */}
+                {request.status === "REJECTED" && request.rejectReason && (
+                  <div className="mb-4 p-3 bg-neutral-100 border border-red-200 rounded">
+                    <p className="text-xs text-red-600 font-medium mb-1">
+                      {t("requests.rejectReason")}
+                    </p>
+                    <p className="text-sm text-black">
+                      {request.rejectReason}
+                    </p>
                   </div>
+                )}
 
-                  {/* 반려 사유 */}
-                  {request.status === "REJECTED" && request.rejectReason && (
-                    <div className="mb-4 p-3 bg-neutral-100 border border-red-200 rounded">
-                      <p className="text-xs text-red-600 font-medium mb-1">
-                        {t("requests.rejectReason")}
-                      </p>
-                      <p className="text-sm text-black">
-                        {request.rejectReason}
-                      </p>
-                    </div>
-                  )}
-
-                  {/* 승인/반려 버튼 (PENDING인 경우만) */}
-                  {request.status === "PENDING" && (
-                    <div className="border-t border-neutral-200 pt-4">
-                      {rejectingId === request.id ? (
-                        <div className="space-y-3">
-                          <textarea
-                            value={rejectReason}
-                            onChange={(e) => setRejectReason(e.target.value)}
-                            placeholder={t(
-                              "admin.requests.rejectReasonPlaceholder"
-                            )}
-                            className="w-full rounded-sm border border-neutral-200 p-3 text-sm"
-                            rows={3}
-                          />
-                          <div className="flex gap-2">
-                            <Button
-                              onClick={() => handleRejectSubmit(request.id)}
-                              className="bg-red-500 hover:bg-red-600 text-white rounded"
-                            >
-                              {t("admin.requests.reject")}
-                            </Button>
-                            <Button
-                              onClick={() => {
-                                setRejectingId(null);
-                                setRejectReason("");
-                              }}
-                              className="bg-neutral-200 rounded hover:bg-neutral-300 text-neutral-700"
-                            >
-                              {t("common.cancel")}
-                            </Button>
-                          </div>
-                        </div>
-                      ) : (
+                {/* 승인/반려 버튼 (PENDING인 경우만) */}
+                {request.status === "PENDING" && (
+                  <div className="border-t border-neutral-200 pt-4">
+                    {rejectingId === request.id ? (
+                      <div className="space-y-3">
+                        <textarea
+                          value={rejectReason}
+                          onChange={(e) => setRejectReason(e.target.value)}
+                          placeholder={t(
+                            "admin.requests.rejectReasonPlaceholder"
+                          )}
+                          className="w-full rounded-sm border border-neutral-200 p-3 text-sm"
+                          rows={3}
+                        />
                         <div className="flex gap-2">
-                          <ConfirmButton
-                            buttonTitle={t("admin.requests.approve")}
-                            buttonClassName="bg-green-500 rounded hover:bg-green-600 text-white"
-                            alertTitle={t("admin.requests.approve") + "?"}
-                            alertDescription=""
-                            confirmText={t("admin.requests.approve")}
-                            onConfirm={() => handleApprove(request.id)}
-                          />
                           <Button
-                            onClick={() => setRejectingId(request.id)}
-                            className="bg-red-500 rounded hover:bg-red-600 text-white"
+                            onClick={() => handleRejectSubmit(request.id)}
+                            className="bg-red-500 hover:bg-red-600 text-white rounded"
                           >
                             {t("admin.requests.reject")}
                           </Button>
+                          <Button
+                            onClick={() => {
+                              setRejectingId(null);
+                              setRejectReason("");
+                            }}
+                            className="bg-neutral-200 rounded hover:bg-neutral-300 text-neutral-700"
+                          >
+                            {t("common.cancel")}
+                          </Button>
                         </div>
-                      )}
-                    </div>
-                  )}
-                </div>
+                      </div>
+                    ) : (
+                      <div className="flex gap-2">
+                        <ConfirmButton
+                          buttonTitle={t("admin.requests.approve")}
+                          buttonClassName="bg-green-500 rounded hover:bg-green-600 text-white"
+                          alertTitle={t("admin.requests.approve") + "?"}
+                          alertDescription=""
+                          confirmText={t("admin.requests.approve")}
+                          onConfirm={() => handleApprove(request.id)}
+                        />
+                        <Button
+                          onClick={() => setRejectingId(request.id)}
+                          className="bg-red-500 rounded hover:bg-red-600 text-white"
+                        >
+                          {t("admin.requests.reject")}
+                        </Button>
+                      </div>
+                    )}
+                  </div>
+                )}
               </div>
-            ))}
+            </div>
+          ))}
+          {cursor && (
+            <div className="flex justify-center">
+              <Button
+                onClick={loadMore}
+                disabled={loadingMore}
+                className="bg-neutral-200 rounded hover:bg-neutral-300 text-neutral-700"
+              >
+                {loadingMore ? t("common.loading") : t("admin.requests.loadMore")}
+              </Button>
+            </div>
+          )}
         </div>
       )}
     </div>
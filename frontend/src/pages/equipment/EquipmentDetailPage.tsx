@@ -9,6 +9,7 @@ import { Button } from "@/components/ui/button";
 import Loading from "@/common/Loading";
 import { Input } from "@/components/ui/input";
 import { useTranslation } from "react-i18next";
+import { LIVE_EQUIPMENT, type EquipmentDelta } from "@/lib/liveUpdates";
 
 interface Equipment {
   id: number;
@@ -16,6 +17,7 @@ interface Equipment {
   description: string;
   category: string;
   imageUrl: string;
+  detailUrl?: string;
   stock: number;
   available: boolean;
   createdAt: string;
@@ -53,6 +55,26 @@ export default function EquipmentDetailPage() {
     fetchEquipment();
   }, [id, t]);
 
+  // 보고 있는 비품의 재고/상태 변경 실시간 반영
+  useEffect(() => {
+    const onChange = (e: Event) => {
+      const delta = (e as CustomEvent<EquipmentDelta>).detail;
+      if (String(delta.id) !== id) return;
+      setEquipment((prev) => {
+        if (!prev) return prev;
+        return {
+          ...prev,
+          name: delta.name ?? prev.name,
+          category: delta.category ?? prev.category,
+          stock: delta.stock ?? prev.stock,
+          available: delta.available ?? prev.available,
+        };
+      });
+    };
+    window.addEventListener(LIVE_EQUIPMENT, onChange);
+    return () => window.removeEventListener(LIVE_EQUIPMENT, onChange);
+  }, [id]);
+
   const handleAddToCart = () => {
     if (!equipment) return;
 
@@ -107,7 +129,7 @@ export default function EquipmentDetailPage() {
         <div className="grid md:grid-cols-2 gap-6 p-6">
           <div className="bg-neutral-100 overflow-hidden">
             <img
-              src={equipment.imageUrl}
+              src={equipment.detailUrl ?? equipment.imageUrl}
               alt={equipment.name}
               className="w-full h-96 object-cover"
             />
@@ -14,6 +14,7 @@ interface Equipment {
   description: string;
   category: string;
   imageUrl: string;
+  cardUrl?: string;
   stock: number;
   available: boolean;
   createdAt: string;
@@ -34,6 +35,8 @@ export default function EquipmentListPage() {
       const response = await api.get("/equipment");
       return response.data;
     },
+    // 변경은 서버 푸시(useLiveUpdates)가 캐시에 바로 반영하므로 시간 기준으로 다시 조회하지 않음
+    staleTime: Infinity,
   });
 
   const filteredEquipments = searchKeyword.trim()
@@ -145,7 +148,7 @@ export default function EquipmentListPage() {
                   >
                     <div className="h-48 bg-neutral-200 relative overflow-hidden">
                       <img
-                        src={equipment.imageUrl}
+                        src={equipment.cardUrl ?? equipment.imageUrl}
                         alt={equipment.name}
                         className={`w-full h-full object-cover transition-all duration-300 ${
                           isUnavailable ? "opacity-40 grayscale" : "opacity-100"
@@ -6,6 +6,7 @@ import axios from "axios";
 import Loading from "@/common/Loading";
 import { Button } from "@/components/ui/button";
 import { useTranslation } from "react-i18next";
+import { LIVE_REQUEST_STATUS, LIVE_RESYNC, type RequestStatusEvent } from "@/lib/liveUpdates";
 
 interface RequestItem {
   id: number;
@@ -57,6 +58,32 @@ export default function MyRequestsPage() {
     fetchRequests();
   }, [user, navigate, t]);
 
+  // 승인/반려 실시간 반영 (놓친 변경이 있을 수 있는 재연결 시에는 다시 조회)
+  useEffect(() => {
+    const onStatus = (e: Event) => {
+      const event = (e as CustomEvent<RequestStatusEvent>).detail;
+      setRequests((prev) =>
+        prev.map((request) =>
+          request.id === event.requestId ? { ...request, status: event.toStatus } : request
+        )
+      );
+    };
+    const onResync = async () => {
+      try {
+        const response = await api.get("/requests/my");
+        setRequests(response.data);
+      } catch {
+        // 다음 이벤트/화면 진입 때 다시 시도
+      }
+    };
+    window.addEventListener(LIVE_REQUEST_STATUS, onStatus);
+    window.addEventListener(LIVE_RESYNC, onResync);
+    return () => {
+      window.removeEventListener(LIVE_REQUEST_STATUS, onStatus);
+      window.removeEventListener(LIVE_RESYNC, onResync);
+    };
+  }, []);
+
   const getStatusBadge = (status: string) => {
     switch (status) {
       case "PENDING":
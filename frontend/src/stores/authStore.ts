@@ -11,7 +11,7 @@ interface AuthState {
 
   setAuth: (user: User, accessToken: string, refreshToken: string) => void;
   logout: () => void;
-  updateToken: (accessToken: string) => void;
+  updateToken: (accessToken: string, refreshToken?: string) => void;
 }
 
 export const useAuthStore = create<AuthState>()(
@@ -44,7 +44,9 @@ export const useAuthStore = create<AuthState>()(
         useCartStore.getState().clearCart();
       },
 
-      updateToken: (accessToken) => set({ accessToken }),
+      // 리프레시 토큰은 갱신할 때마다 회전되므로 함께 교체
+      updateToken: (accessToken, refreshToken) =>
+        set((state) => ({ accessToken, refreshToken: refreshToken ?? state.refreshToken })),
     }),
     {
       name: "auth-storage",
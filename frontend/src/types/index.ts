@@ -26,6 +26,9 @@ export interface Equipment {
   description?: string;
   category: string;
   imageUrl?: string;
+  thumbnailUrl?: string;
+  cardUrl?: string;
+  detailUrl?: string;
   stock: number;
   available: boolean;
   createdAt: string;